@@ -0,0 +1,49 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package art.cutils.function;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Represents a dealer of {@code double}-valued results. This is the {@code double}-producing
+ * primitive specialization of {@link Dealer}, like {@link Dealer} and unlike {@link
+ * DoubleSupplier}, {@link DoubleDealer#dealAsDouble()} may throw an {@link Exception}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Dealer
+ * @see DoubleSupplier
+ * @since v2.8
+ */
+@FunctionalInterface
+public interface DoubleDealer {
+
+  /**
+   * Executes the dealer operation, which may throw an exception, and returns the result.
+   *
+   * @return the result of the dealer operation
+   * @throws Exception if the dealer operation throws an exception
+   */
+  double dealAsDouble() throws Exception;
+}
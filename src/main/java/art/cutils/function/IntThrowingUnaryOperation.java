@@ -0,0 +1,50 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package art.cutils.function;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents an operation on a single {@code int}-valued operand that produces a {@code
+ * int}-valued result, and may throw an {@link Exception}. This is the primitive
+ * specialization of {@link ThrowingUnaryOperation} for {@code int}.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see ThrowingUnaryOperation
+ * @see IntUnaryOperator
+ * @since v2.8
+ */
+@FunctionalInterface
+public interface IntThrowingUnaryOperation {
+
+  /**
+   * Applies this operation to the given operand.
+   *
+   * @param operand the operand
+   * @return the result of the operation
+   * @throws Exception if an error occurs during the operation
+   */
+  int applyAsInt(int operand) throws Exception;
+}
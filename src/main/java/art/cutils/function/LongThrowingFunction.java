@@ -0,0 +1,51 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package art.cutils.function;
+
+import java.util.function.LongFunction;
+
+/**
+ * Represents a function that accepts a {@code long}-valued argument, produces a result and may
+ * throw an {@link Exception}. This is the {@code long}-consuming primitive specialization of
+ * {@link ThrowingFunction}.
+ *
+ * @param <R> the type of the result of the function
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see ThrowingFunction
+ * @see LongFunction
+ * @since v2.8
+ */
+@FunctionalInterface
+public interface LongThrowingFunction<R> {
+
+  /**
+   * Applies the function to the given argument.
+   *
+   * @param value the function argument
+   * @return the result of applying the function to the argument
+   * @throws Exception if an error occurs during function execution
+   */
+  R apply(long value) throws Exception;
+}
@@ -0,0 +1,274 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link AsyncQue} is the asynchronous counterpart of {@link Que}: every stage runs on an
+ * {@link Executor} once the previous stage completes, and hands its value to the next one without
+ * blocking. No thread is held between stages.
+ *
+ * <pre>{@code
+ * Executor lane = AsyncQue.bounded(executor, 64);
+ *
+ * CompletableFuture<Response> response =
+ *     AsyncQue.of(() -> load(id), lane)
+ *         .map(this::enrich)
+ *         .andConsume(this::audit)
+ *         .map(this::render)
+ *         .completableFuture();
+ * }</pre>
+ *
+ * <p>Without an executor, stages run on virtual threads if the runtime provides them (Java 21+),
+ * otherwise on the {@link ForkJoinPool#commonPool()}. An exception thrown by a stage skips the
+ * stages after it and completes the {@link AsyncQue} exceptionally.
+ *
+ * @param <T> type.
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class AsyncQue<T> {
+
+  /** The future holding the value of the last stage. */
+  private final CompletableFuture<T> future;
+
+  /** The executor running the stages. */
+  private final Executor executor;
+
+  /**
+   * Constructs an instance continuing from the given future.
+   *
+   * @param future the future holding the value of the last stage
+   * @param executor the executor running the stages
+   */
+  @Contract(pure = true)
+  private AsyncQue(final CompletableFuture<T> future, final Executor executor) {
+    this.future = future;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts an {@link AsyncQue} with the value supplied on the default executor.
+   *
+   * @param supplier supplies the first value
+   * @param <T> Type of value
+   * @return new instance of {@link AsyncQue}
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull AsyncQue<T> of(final Supplier<? extends T> supplier) {
+    return AsyncQue.of(supplier, DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Starts an {@link AsyncQue} with the value supplied on the given executor.
+   *
+   * @param supplier supplies the first value
+   * @param executor the executor running the stages
+   * @param <T> Type of value
+   * @return new instance of {@link AsyncQue}
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull AsyncQue<T> of(
+      final Supplier<? extends T> supplier, final Executor executor) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    Objects.requireNonNull(executor, "executor cannot be null");
+    return new AsyncQue<>(CompletableFuture.<T>supplyAsync(supplier::get, executor), executor);
+  }
+
+  /**
+   * Continues the given value asynchronously on the given executor.
+   *
+   * @param value the current value
+   * @param executor the executor running the stages
+   * @param <T> Type of value
+   * @return new instance of {@link AsyncQue}
+   */
+  @Contract("_, _ -> new")
+  static <T> @NotNull AsyncQue<T> from(final T value, final Executor executor) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+    return new AsyncQue<>(CompletableFuture.completedFuture(value), executor);
+  }
+
+  /**
+   * Wraps an {@link Executor} so that at most {@code maxInFlight} stages run on it at once, from
+   * any number of {@link AsyncQue}s. Stages beyond the limit wait in a queue, without holding a
+   * thread, until a running stage completes.
+   *
+   * @param executor the executor running the stages
+   * @param maxInFlight the maximum number of stages running at once
+   * @return new instance of a bounded {@link Executor}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull Executor bounded(final Executor executor, final int maxInFlight) {
+    return new BoundedExecutor(executor, maxInFlight);
+  }
+
+  /**
+   * Runs the given {@link Callable}, rethrowing its exception unchecked.
+   *
+   * @param callable the callable to run
+   * @param <V> Type of value
+   * @return the result of {@code callable}
+   */
+  private static <V> V call(final Callable<? extends V> callable) {
+    try {
+      return callable.call();
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  /**
+   * Maps the value on the executor, once available.
+   *
+   * @param mapper a mapping function to apply to the value.
+   * @param <R> Type of the mapped value
+   * @return new instance of {@link AsyncQue}
+   * @see Que#map(Function)
+   */
+  @Contract("_ -> new")
+  public <R> @NotNull AsyncQue<R> map(final Function<? super T, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return new AsyncQue<>(this.future.thenApplyAsync(mapper, this.executor), this.executor);
+  }
+
+  /**
+   * Runs a {@link Runnable} on the executor, once the value is available.
+   *
+   * @param runnable {@link Runnable} type variable
+   * @return new instance of {@link AsyncQue}
+   * @see Que#andRun(Runnable)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncQue<T> andRun(final Runnable runnable) {
+    Objects.requireNonNull(runnable, "runnable cannot be null");
+    return this.andConsume(value -> runnable.run());
+  }
+
+  /**
+   * Consumes the value on the executor, once available.
+   *
+   * @param consumer {@link Consumer} type variable
+   * @return new instance of {@link AsyncQue}
+   * @see Que#andConsume(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncQue<T> andConsume(final Consumer<? super T> consumer) {
+    Objects.requireNonNull(consumer, "consumer cannot be null");
+    return new AsyncQue<>(
+        this.future.thenApplyAsync(
+            value -> {
+              consumer.accept(value);
+              return value;
+            },
+            this.executor),
+        this.executor);
+  }
+
+  /**
+   * Replaces the value with the one supplied on the executor, once the previous stage completes.
+   *
+   * @param supplier {@link Supplier} variable
+   * @return new instance of {@link AsyncQue}
+   * @see Que#andSupply(Supplier)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncQue<T> andSupply(final Supplier<? extends T> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    return new AsyncQue<>(
+        this.future.thenApplyAsync(value -> supplier.get(), this.executor), this.executor);
+  }
+
+  /**
+   * Replaces the value with the result of a {@link Callable} run on the executor, once the
+   * previous stage completes.
+   *
+   * @param callable {@link Callable} type variable.
+   * @return new instance of {@link AsyncQue}
+   * @see Que#andCall(Callable)
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncQue<T> andCall(final Callable<? extends T> callable) {
+    Objects.requireNonNull(callable, "callable cannot be null");
+    return new AsyncQue<>(
+        this.future.thenApplyAsync(value -> AsyncQue.call(callable), this.executor),
+        this.executor);
+  }
+
+  /**
+   * Used to get the value of the last stage as a {@link CompletableFuture}.
+   *
+   * @return {@link CompletableFuture} of the value
+   */
+  @Contract(pure = true)
+  public @NotNull CompletableFuture<T> completableFuture() {
+    return this.future;
+  }
+
+  /**
+   * Used to get the outcome of the last stage as a {@link TryFuture}.
+   *
+   * @return {@link TryFuture} of the value
+   */
+  @Contract(" -> new")
+  public @NotNull TryFuture<T> tryFuture() {
+    return TryFuture.from(this.future);
+  }
+
+  /**
+   * Waits if necessary for every stage to complete, and then retrieves the value.
+   *
+   * @return the value of the last stage
+   * @throws CompletionException if a stage threw an exception
+   */
+  public T get() {
+    return this.future.join();
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "AsyncQue{" + "future=" + this.future + ", executor=" + this.executor + '}';
+  }
+
+  /** Holds the default executor, created on first use. */
+  private static final class DefaultExecutor {
+
+    /** Virtual threads if available, otherwise the common pool. */
+    private static final Executor INSTANCE =
+        VirtualThreads.isAvailable() ? VirtualThreads.newExecutor() : ForkJoinPool.commonPool();
+  }
+}
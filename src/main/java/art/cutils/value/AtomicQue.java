@@ -0,0 +1,322 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link AtomicQue} is a thread-safe {@link Que}: its value is held in a volatile field and
+ * every update is a lock-free compare-and-set, so one instance can be shared by many threads.
+ *
+ * <pre>{@code
+ * AtomicQue<Config> config = AtomicQue.of(Config.load());
+ *
+ * // request threads
+ * Config current = config.get();
+ *
+ * // refresher thread
+ * config.update(previous -> previous.merge(changes)).andRun(this::notifyListeners);
+ * }</pre>
+ *
+ * <p>Functions given to {@link AtomicQue#update(UnaryOperator)} and the other update methods may
+ * be re-applied when another thread updates the value concurrently, so they should be free of side
+ * effects.
+ *
+ * @param <T> type.
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class AtomicQue<T> {
+
+  /** Updates {@link AtomicQue#value} without the allocation of an {@code AtomicReference}. */
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<AtomicQue, Object> VALUE =
+      AtomicReferenceFieldUpdater.newUpdater(AtomicQue.class, Object.class, "value");
+
+  /** This holds the current value. */
+  private volatile T value;
+
+  /**
+   * Constructs an instance with the described value.
+   *
+   * @param value the value to describe
+   */
+  @Contract(pure = true)
+  private AtomicQue(final T value) {
+    this.value = value;
+  }
+
+  /**
+   * Creates an {@link AtomicQue} holding the given value.
+   *
+   * @param value the initial value
+   * @param <T> Type of value
+   * @return new instance of {@link AtomicQue}
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static <T> @NotNull AtomicQue<T> of(final T value) {
+    return new AtomicQue<>(value);
+  }
+
+  /**
+   * Creates an {@link AtomicQue} holding the supplied value.
+   *
+   * @param supplier supplies the initial value
+   * @param <T> Type of value
+   * @return new instance of {@link AtomicQue}
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull AtomicQue<T> of(final @NotNull Supplier<? extends T> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    return new AtomicQue<>(supplier.get());
+  }
+
+  /**
+   * Creates an {@link AtomicQue} holding the current value of a {@link Que}.
+   *
+   * @param que the {@link Que} to read
+   * @param <T> Type of value
+   * @return new instance of {@link AtomicQue}
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull AtomicQue<T> from(final @NotNull Que<? extends T> que) {
+    Objects.requireNonNull(que, "que cannot be null");
+    return new AtomicQue<>(que.get());
+  }
+
+  /**
+   * Sets the value to the supplied one.
+   *
+   * @param supplier {@link Supplier} variable
+   * @return existing instance of {@link AtomicQue}
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> andSupply(final Supplier<? extends T> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    this.value = supplier.get();
+    return this;
+  }
+
+  /**
+   * Sets the value to the dealt one. Use this method in place of {@link
+   * AtomicQue#andSupply(Supplier)} if operation will throw an {@link Exception}.
+   *
+   * @param dealer {@link Dealer} variable
+   * @return existing instance of {@link AtomicQue}
+   * @throws Exception instance of any exception thrown.
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> andDeal(final Dealer<? extends T> dealer) throws Exception {
+    Objects.requireNonNull(dealer, "dealer cannot be null");
+    this.value = dealer.deal();
+    return this;
+  }
+
+  /**
+   * Sets the value to the result of a {@link Callable}.
+   *
+   * @param callable {@link Callable} type variable.
+   * @return existing instance of {@link AtomicQue}
+   * @throws Exception instance of any exception thrown.
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> andCall(final Callable<? extends T> callable) throws Exception {
+    Objects.requireNonNull(callable, "callable cannot be null");
+    this.value = callable.call();
+    return this;
+  }
+
+  /**
+   * Executes a {@link Runnable} type variable.
+   *
+   * @param runnable {@link Runnable} type variable
+   * @return existing instance of {@link AtomicQue}
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> andRun(final Runnable runnable) {
+    Objects.requireNonNull(runnable, "runnable cannot be null");
+    runnable.run();
+    return this;
+  }
+
+  /**
+   * Consumes the current value.
+   *
+   * @param consumer {@link Consumer} type variable
+   * @return existing instance of {@link AtomicQue}
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> andConsume(final Consumer<? super T> consumer) {
+    Objects.requireNonNull(consumer, "consumer cannot be null");
+    consumer.accept(this.value);
+    return this;
+  }
+
+  /**
+   * Atomically updates the value with the results of applying the given function.
+   *
+   * @param updater a side-effect-free function
+   * @return existing instance of {@link AtomicQue}
+   */
+  @Contract("_ -> this")
+  public @NotNull AtomicQue<T> update(final UnaryOperator<T> updater) {
+    this.updateAndGet(updater);
+    return this;
+  }
+
+  /**
+   * Atomically updates the value with the results of applying the given function.
+   *
+   * @param updater a side-effect-free function
+   * @return the updated value
+   */
+  public T updateAndGet(final UnaryOperator<T> updater) {
+    Objects.requireNonNull(updater, "updater cannot be null");
+    T prev;
+    T next;
+    do {
+      prev = this.value;
+      next = updater.apply(prev);
+    } while (!VALUE.compareAndSet(this, prev, next));
+    return next;
+  }
+
+  /**
+   * Atomically updates the value with the results of applying the given function.
+   *
+   * @param updater a side-effect-free function
+   * @return the previous value
+   */
+  public T getAndUpdate(final UnaryOperator<T> updater) {
+    Objects.requireNonNull(updater, "updater cannot be null");
+    T prev;
+    do {
+      prev = this.value;
+    } while (!VALUE.compareAndSet(this, prev, updater.apply(prev)));
+    return prev;
+  }
+
+  /**
+   * Atomically updates the value with the results of applying the given function to the current
+   * and given values.
+   *
+   * @param x the update value
+   * @param accumulator a side-effect-free function of two arguments
+   * @return existing instance of {@link AtomicQue}
+   */
+  @Contract("_, _ -> this")
+  public @NotNull AtomicQue<T> accumulate(final T x, final BinaryOperator<T> accumulator) {
+    this.accumulateAndGet(x, accumulator);
+    return this;
+  }
+
+  /**
+   * Atomically updates the value with the results of applying the given function to the current
+   * and given values.
+   *
+   * @param x the update value
+   * @param accumulator a side-effect-free function of two arguments
+   * @return the updated value
+   */
+  public T accumulateAndGet(final T x, final BinaryOperator<T> accumulator) {
+    Objects.requireNonNull(accumulator, "accumulator cannot be null");
+    T prev;
+    T next;
+    do {
+      prev = this.value;
+      next = accumulator.apply(prev, x);
+    } while (!VALUE.compareAndSet(this, prev, next));
+    return next;
+  }
+
+  /**
+   * Atomically sets the value to {@code update} if the current value {@code ==} {@code expect}.
+   *
+   * @param expect the expected value
+   * @param update the new value
+   * @return {@code true} if successful, {@code false} if the current value was not {@code expect}
+   */
+  public boolean compareAndSet(final T expect, final T update) {
+    return VALUE.compareAndSet(this, expect, update);
+  }
+
+  /**
+   * Atomically sets the value and returns the previous one.
+   *
+   * @param value the new value
+   * @return the previous value
+   */
+  @SuppressWarnings("unchecked")
+  public T getAndSet(final T value) {
+    return (T) VALUE.getAndSet(this, value);
+  }
+
+  /**
+   * Maps a snapshot of the current value into a new {@link Que}.
+   *
+   * @param mapper a mapping function to apply to the value.
+   * @param <R> Type of the mapped value
+   * @return new instance of {@link Que}
+   */
+  public <R> @NotNull Que<R> map(final Function<? super T, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return Que.of(mapper.apply(this.value));
+  }
+
+  /**
+   * Used to get the current value.
+   *
+   * @return the current value
+   */
+  @Contract(pure = true)
+  public T get() {
+    return this.value;
+  }
+
+  /**
+   * Used to get the current value of {@link Optional} type.
+   *
+   * @return {@link Optional} of the current value
+   */
+  @Contract(pure = true)
+  public Optional<T> optional() {
+    return Optional.ofNullable(this.value);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "AtomicQue{" + "value=" + this.value + '}';
+  }
+}
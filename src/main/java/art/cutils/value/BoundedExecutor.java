@@ -0,0 +1,162 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link Executor} running at most a given number of tasks at once on another {@link Executor}.
+ * Tasks beyond the limit are queued, without blocking the submitting thread, and handed to the
+ * underlying executor as running tasks complete.
+ *
+ * <p>A task the underlying executor rejects is put back at the head of the queue, to be handed
+ * over again once a running task completes or on the next submission. The rejection is reported
+ * only to the submitter of the task, and only if no running task is left to retry it.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class BoundedExecutor implements Executor {
+
+  /** The executor running the tasks. */
+  private final Executor executor;
+
+  /** The maximum number of tasks running at once. */
+  private final int limit;
+
+  /** The tasks waiting to run. */
+  private final Deque<Runnable> pending = new ConcurrentLinkedDeque<>();
+
+  /** The number of tasks running. */
+  private final AtomicInteger running = new AtomicInteger();
+
+  /** The number of drain requests not yet served, {@code 0} if no thread drains. */
+  private final AtomicInteger requests = new AtomicInteger();
+
+  /**
+   * Constructs an executor running at most {@code limit} tasks at once on {@code executor}.
+   *
+   * @param executor the executor running the tasks
+   * @param limit the maximum number of tasks running at once
+   */
+  @Contract(pure = true)
+  BoundedExecutor(final Executor executor, final int limit) {
+    this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit must be at least 1.");
+    }
+    this.limit = limit;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws RejectedExecutionException if the underlying executor rejects {@code task} and no
+   *     running task is left to hand it over again
+   */
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    this.pending.offer(task);
+    final RuntimeException rejection = this.drain();
+    if (Objects.nonNull(rejection)
+        && this.running.get() == 0
+        && this.pending.removeLastOccurrence(task)) {
+      throw rejection;
+    }
+  }
+
+  /**
+   * Retrieve the number of tasks running.
+   *
+   * @return the number of tasks running
+   */
+  int running() {
+    return this.running.get();
+  }
+
+  /**
+   * Hands waiting tasks to the underlying executor while below the limit, stopping at the first
+   * task it rejects, which is put back at the head of the queue. A single thread drains at a time:
+   * a request made while another thread drains is taken over by that thread, which drains again
+   * before leaving, so no submission or completion is missed.
+   *
+   * @return the rejection of the underlying executor, {@code null} if no task was rejected or if
+   *     the request was taken over
+   */
+  private RuntimeException drain() {
+    if (this.requests.getAndIncrement() != 0) {
+      return null;
+    }
+    RuntimeException rejection;
+    int missed = 1;
+    do {
+      rejection = null;
+      while (this.running.get() < this.limit) {
+        final Runnable task = this.pending.poll();
+        if (Objects.isNull(task)) {
+          break;
+        }
+        this.running.incrementAndGet();
+        try {
+          this.executor.execute(
+              () -> {
+                try {
+                  task.run();
+                } finally {
+                  this.running.decrementAndGet();
+                  this.drain();
+                }
+              });
+        } catch (final RuntimeException e) {
+          this.pending.offerFirst(task);
+          this.running.decrementAndGet();
+          rejection = e;
+          break;
+        }
+      }
+      missed = this.requests.addAndGet(-missed);
+    } while (missed != 0);
+    return rejection;
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "BoundedExecutor{"
+        + "executor="
+        + this.executor
+        + ", limit="
+        + this.limit
+        + ", running="
+        + this.running
+        + '}';
+  }
+}
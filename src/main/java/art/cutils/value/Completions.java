@@ -0,0 +1,253 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Iterates over the outcome of a group of tasks in the order they complete. Every task is
+ * submitted on creation, {@link Completions#next()} then waits for the next task to complete.
+ *
+ * <p>When the deadline passes, or the waiting thread is interrupted, the tasks not yet complete
+ * are cancelled and their outcome is a failed {@link Try} with a {@link
+ * java.util.concurrent.CancellationException}, as with {@link ExecutorService#invokeAll(Collection,
+ * long, TimeUnit)}.
+ *
+ * @param <T> the type of the values from the tasks
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class Completions<T> implements Iterator<Try<T>> {
+
+  /** Runs the tasks. */
+  private final Executor executor;
+
+  /** Queues each task as it completes. */
+  private final BlockingQueue<Future<T>> completed = new LinkedBlockingQueue<>();
+
+  /** The index of each submitted task whose outcome is yet to be returned, by its future. */
+  private final Map<Future<T>, Integer> pending;
+
+  /** Whether waiting is bounded by {@link Completions#deadline}. */
+  private final boolean timed;
+
+  /** The deadline, as {@link System#nanoTime()}. */
+  private final long deadline;
+
+  /** The number of tasks whose outcome is yet to be returned. */
+  private int remaining;
+
+  /** Whether the tasks not yet complete were cancelled. */
+  private boolean cancelled;
+
+  /** The index of the task whose outcome was returned last, {@code -1} if none was. */
+  private int index = -1;
+
+  /**
+   * Constructs an instance over the given number of tasks.
+   *
+   * @param executor runs the tasks
+   * @param size the number of tasks
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}, not bounded if {@code null}
+   */
+  private Completions(
+      final Executor executor, final int size, final long timeout, final TimeUnit unit) {
+    this.executor = executor;
+    this.pending = new HashMap<>(size * 4 / 3 + 1);
+    this.remaining = size;
+    this.timed = timeout > 0L && Objects.nonNull(unit);
+    this.deadline = this.timed ? System.nanoTime() + unit.toNanos(timeout) : 0L;
+  }
+
+  /**
+   * Submits every task to the executor.
+   *
+   * @param executor the executor running the tasks
+   * @param tasks the tasks
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}, not bounded if {@code null}
+   * @param <T> the type of the values from the tasks
+   * @return new instance of {@link Completions}
+   */
+  static <T> @NotNull Completions<T> start(
+      final Executor executor,
+      final Collection<? extends Callable<T>> tasks,
+      final long timeout,
+      final TimeUnit unit) {
+    final Completions<T> completions =
+        new Completions<>(executor, tasks.size(), timeout, unit);
+    int index = 0;
+    for (final Callable<T> task : tasks) {
+      completions.submit(task, index++);
+    }
+    return completions;
+  }
+
+  /**
+   * Submits a task, recording a failed outcome if the executor rejects it.
+   *
+   * @param task the task
+   * @param index the index of the task
+   */
+  private void submit(final Callable<T> task, final int index) {
+    final Completion completion = new Completion(task);
+    this.pending.put(completion, index);
+    try {
+      this.executor.execute(completion);
+    } catch (final RejectedExecutionException e) {
+      completion.reject(e);
+    }
+  }
+
+  /**
+   * Describes the outcome of a completed task.
+   *
+   * @param future the future of the completed task
+   * @param <T> the type of the value from the task
+   * @return a {@link Try} of the value from the task, otherwise a failed {@link Try} with the
+   *     exception thrown by the task.
+   */
+  static <T> @NotNull Try<T> outcome(final @NotNull Future<T> future) {
+    final Try<T> outcome = Try.of((Dealer<T>) future::get);
+    return outcome.isFailure() ? Try.failure(TryFuture.unwrap(outcome.getCause())) : outcome;
+  }
+
+  /**
+   * Use to get the index, in submission order, of the task whose outcome was returned last by
+   * {@link Completions#next()}.
+   *
+   * @return the index of the task, {@code -1} if no outcome was returned yet
+   */
+  @Contract(pure = true)
+  int index() {
+    return this.index;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.remaining > 0;
+  }
+
+  @Override
+  public @NotNull Try<T> next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    this.remaining--;
+    final Future<T> future = this.take();
+    this.index = this.pending.remove(future);
+    return Completions.outcome(future);
+  }
+
+  /**
+   * Waits for the next task to complete, cancelling the tasks not yet complete if the deadline
+   * passes or the thread is interrupted.
+   *
+   * @return the future of the completed task
+   */
+  private Future<T> take() {
+    boolean interrupted = false;
+    try {
+      if (!this.cancelled) {
+        try {
+          final Future<T> future =
+              this.timed
+                  ? this.completed.poll(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                  : this.completed.take();
+          if (Objects.nonNull(future)) {
+            return future;
+          }
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+        this.cancel();
+      }
+
+      // Every task is done once cancelled, as a cancelled task is queued when it is cancelled.
+      while (true) {
+        try {
+          return this.completed.take();
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /** Cancels the tasks not yet complete, interrupting the running ones. */
+  void cancel() {
+    this.cancelled = true;
+    for (final Future<T> future : this.pending.keySet()) {
+      future.cancel(true);
+    }
+  }
+
+  /** A task queueing itself as it completes, whether it succeeded, failed or was cancelled. */
+  private final class Completion extends KeyedExecutor.KeyedFuture<T> {
+
+    /**
+     * Constructs a completion running the given task.
+     *
+     * @param task the task
+     */
+    private Completion(final Callable<T> task) {
+      super(task);
+    }
+
+    /**
+     * Fails the task the executor rejected.
+     *
+     * @param e the rejection
+     */
+    private void reject(final RejectedExecutionException e) {
+      this.setException(e);
+    }
+
+    @Override
+    protected void done() {
+      Completions.this.completed.add(this);
+    }
+  }
+}
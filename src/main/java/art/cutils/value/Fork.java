@@ -0,0 +1,302 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Applies independent branches to a single value concurrently and joins their results, in branch
+ * order, into a {@link Try} of a {@link List}.
+ *
+ * @param <T> the type of the value
+ * @param <R> the type of the result of each branch
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Que#forkOn(Executor, Traversal.Mode, long, TimeUnit, Function[])
+ * @since v2.8
+ */
+final class Fork<T, R> {
+
+  /** The value given to every branch. */
+  private final T value;
+
+  /** The failure behaviour. */
+  private final Traversal.Mode mode;
+
+  /** The task running each branch, in order. */
+  private final List<Branch> branches;
+
+  /** The result of each branch, in order. */
+  private final Object[] results;
+
+  /** The failure of each branch, in order, {@code null} if the branch has not failed. */
+  private final Throwable[] failures;
+
+  /** The number of branches yet to complete. */
+  private final AtomicInteger remaining;
+
+  /** Completed once every branch completed, or on the first failure when failing fast. */
+  private final CompletableFuture<Try<List<R>>> joined = new CompletableFuture<>();
+
+  /**
+   * Constructs an instance for the given value and branches.
+   *
+   * @param value the value given to every branch
+   * @param functions the branches
+   * @param mode the failure behaviour
+   */
+  private Fork(
+      final T value,
+      final List<? extends Function<? super T, ? extends R>> functions,
+      final Traversal.Mode mode) {
+    this.value = value;
+    this.mode = mode;
+    this.branches = new ArrayList<>(functions.size());
+    for (final Function<? super T, ? extends R> function : functions) {
+      this.branches.add(
+          new Branch(
+              this.branches.size(), Objects.requireNonNull(function, "branch cannot be null")));
+    }
+    this.results = new Object[functions.size()];
+    this.failures = new Throwable[functions.size()];
+    this.remaining = new AtomicInteger(functions.size());
+  }
+
+  /**
+   * Runs every branch on the given value and waits for their results.
+   *
+   * @param value the value given to every branch
+   * @param executor the executor running the branches
+   * @param mode the failure behaviour
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}
+   * @param branches the branches
+   * @param <T> the type of the value
+   * @param <R> the type of the result of each branch
+   * @return a successful {@link Try} of the result of every branch, in branch order, otherwise a
+   *     failed {@link Try} with the failure of a branch, or a {@link TimeoutException}.
+   */
+  static <T, R> @NotNull Try<List<R>> join(
+      final T value,
+      final Executor executor,
+      final Traversal.Mode mode,
+      final long timeout,
+      final TimeUnit unit,
+      final List<? extends Function<? super T, ? extends R>> branches) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+    Objects.requireNonNull(mode, "mode cannot be null");
+    Objects.requireNonNull(unit, "unit cannot be null");
+    Objects.requireNonNull(branches, "branches cannot be null");
+    if (branches.isEmpty()) {
+      return Try.success(Collections.emptyList());
+    }
+    return new Fork<>(value, branches, mode).start(executor).await(timeout, unit);
+  }
+
+  /**
+   * Submits every branch to the executor, until the join completes.
+   *
+   * @param executor the executor running the branches
+   * @return this instance
+   */
+  @Contract("_ -> this")
+  private Fork<T, R> start(final Executor executor) {
+    for (final Branch branch : this.branches) {
+      if (this.joined.isDone()) {
+        break;
+      }
+      try {
+        executor.execute(branch);
+      } catch (final RejectedExecutionException e) {
+        branch.reject(e);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Records the outcome of a branch, completing the join once every branch completed or, when
+   * failing fast, on the first failure.
+   *
+   * @param index the index of the branch
+   * @param result the result of the branch
+   * @param ex the failure of the branch, {@code null} if the branch succeeded
+   */
+  @SuppressWarnings("unchecked")
+  private void complete(final int index, final Object result, final Throwable ex) {
+    if (Objects.nonNull(ex)) {
+      final Throwable cause = TryFuture.unwrap(ex);
+      if (this.mode == Traversal.Mode.FAIL_FAST) {
+        if (this.joined.complete(Try.failure(cause))) {
+          this.cancel();
+        }
+        return;
+      }
+      this.failures[index] = cause;
+    } else {
+      this.results[index] = result;
+    }
+    if (this.remaining.decrementAndGet() == 0) {
+      final Throwable failure = this.failure();
+      this.joined.complete(
+          Objects.isNull(failure)
+              ? Try.success(
+                  Collections.unmodifiableList(
+                      new ArrayList<>((List<R>) Arrays.asList(this.results))))
+              : Try.failure(failure));
+    }
+  }
+
+  /**
+   * Use to get the failure of the failed branches: the failure itself if a single branch failed,
+   * otherwise a new {@link CompletionException} caused by the failure of the first failed branch,
+   * with the failures of the later ones suppressed. The failures of the branches are left as they
+   * are.
+   *
+   * @return the failure of the failed branches, {@code null} if no branch failed
+   */
+  private Throwable failure() {
+    Throwable first = null;
+    CompletionException aggregate = null;
+    for (final Throwable failure : this.failures) {
+      if (Objects.isNull(failure)) {
+        continue;
+      }
+      if (Objects.isNull(first)) {
+        first = failure;
+      } else if (first != failure) {
+        if (Objects.isNull(aggregate)) {
+          aggregate = new CompletionException(first);
+        }
+        aggregate.addSuppressed(failure);
+      }
+    }
+    return Objects.isNull(aggregate) ? first : aggregate;
+  }
+
+  /**
+   * Cancels the branches, interrupting the running ones. Those not started yet never run, as a
+   * branch does not start once the join completed.
+   */
+  private void cancel() {
+    for (final Branch branch : this.branches) {
+      branch.cancel(true);
+    }
+  }
+
+  /**
+   * Waits for the join to complete.
+   *
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}
+   * @return the outcome of the join
+   */
+  private @NotNull Try<List<R>> await(final long timeout, final TimeUnit unit) {
+    try {
+      return timeout > 0 ? this.joined.get(timeout, unit) : this.joined.get();
+    } catch (final ExecutionException e) {
+      return Try.failure(TryFuture.unwrap(e));
+    } catch (final TimeoutException e) {
+      return this.abandon(e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return this.abandon(e);
+    }
+  }
+
+  /**
+   * Fails the join with the given cause, unless it completed meanwhile, and cancels the branches.
+   *
+   * @param cause the reason to stop waiting
+   * @return the outcome of the join
+   */
+  private @NotNull Try<List<R>> abandon(final Throwable cause) {
+    this.joined.complete(Try.failure(cause));
+    this.cancel();
+    return this.joined.join();
+  }
+
+  /** A branch, reporting its outcome to the join once it ran, failed to start or was cancelled. */
+  private final class Branch extends FutureTask<R> {
+
+    /** The index of the branch. */
+    private final int index;
+
+    /**
+     * Constructs a task applying the given branch to the value.
+     *
+     * @param index the index of the branch
+     * @param function the branch
+     */
+    private Branch(final int index, final Function<? super T, ? extends R> function) {
+      super(
+          () -> {
+            if (Fork.this.joined.isDone()) {
+              throw new CancellationException("fork already completed");
+            }
+            return function.apply(Fork.this.value);
+          });
+      this.index = index;
+    }
+
+    /**
+     * Fails this branch, the executor having refused to run it.
+     *
+     * @param cause the reason of the refusal
+     */
+    private void reject(final Throwable cause) {
+      this.setException(cause);
+    }
+
+    @Override
+    protected void done() {
+      try {
+        Fork.this.complete(this.index, this.get(), null);
+      } catch (final ExecutionException e) {
+        Fork.this.complete(this.index, null, e.getCause());
+      } catch (final CancellationException e) {
+        Fork.this.complete(this.index, null, e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        Fork.this.complete(this.index, null, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.IntDealer;
+import art.cutils.function.IntThrowingFunction;
+import art.cutils.function.IntThrowingUnaryOperation;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link IntTry} is the {@code int} primitive specialization of {@link Try}. It holds its
+ * result as an {@code int}, so chaining operations on numeric results does not box them.
+ *
+ * <p>Like {@link Try}, {@link IntTry} is immutable and is in one of three states:
+ * successful with a result, empty when a filter condition is not met, or failed.
+ *
+ * <pre>{@code
+ * int port = IntTry.of(() -> Integer.parseInt(value)).filter(p -> p > 0).orElse(8080);
+ * }</pre>
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class IntTry {
+
+  /** Shared state of a successful operation whose filter condition is not met. */
+  private static final IntTry EMPTY = new IntTry(0, null, true);
+
+  /** The result of the operation. */
+  private final int value;
+
+  /** The cause of failure, {@code null} if the operation was successful. */
+  private final Throwable cause;
+
+  /** Indicates whether the filter condition is not met. */
+  private final boolean empty;
+
+  /**
+   * Constructs an instance with the given state.
+   *
+   * @param value the result of the operation
+   * @param cause the cause of failure
+   * @param empty whether the filter condition is not met
+   */
+  @Contract(pure = true)
+  private IntTry(final int value, final Throwable cause, final boolean empty) {
+    this.value = value;
+    this.cause = cause;
+    this.empty = empty;
+  }
+
+  /**
+   * Accepts an {@link IntDealer} type function which is expected to return a result if operation
+   * was successful.
+   *
+   * @param operation the operation that will be tried.
+   * @return instance of {@link IntTry}, successful with the result or failed with the exception.
+   */
+  @Contract("_ -> new")
+  public static @NotNull IntTry of(final IntDealer operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    try {
+      return new IntTry(operation.dealAsInt(), null, false);
+    } catch (final Exception e) {
+      return new IntTry(0, e, false);
+    }
+  }
+
+  /**
+   * Creates a successful {@link IntTry} with the given result.
+   *
+   * @param value the result
+   * @return instance of {@link IntTry} in a successful state.
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull IntTry success(final int value) {
+    return new IntTry(value, null, false);
+  }
+
+  /**
+   * Creates a failed {@link IntTry} with the given cause.
+   *
+   * @param cause the cause of failure
+   * @return instance of {@link IntTry} in a failed state.
+   */
+  @Contract("_ -> new")
+  public static @NotNull IntTry failure(final Throwable cause) {
+    Objects.requireNonNull(cause, "cause cannot be null");
+    return new IntTry(0, cause, false);
+  }
+
+  /**
+   * Converts a {@link Try} of a number to {@link IntTry}. A successful {@link Try} without a
+   * result, or with a {@code null} result, is converted to an empty {@link IntTry}. A result that
+   * is not an integral value in the range of {@code int} fails with an {@link ArithmeticException}
+   * rather than being truncated.
+   *
+   * @param result the {@link Try} to convert
+   * @return instance of {@link IntTry} in the same state as {@code result}.
+   */
+  public static @NotNull IntTry from(final @NotNull Try<? extends Number> result) {
+    Objects.requireNonNull(result, "result cannot be null");
+    if (result.isFailure()) {
+      return new IntTry(0, result.getCause(), false);
+    }
+    final Number number = result.isResult() && result.isNotEmpty() ? result.get() : null;
+    if (Objects.isNull(number)) {
+      return IntTry.EMPTY;
+    }
+    try {
+      return new IntTry(Math.toIntExact(LongTry.exactLong(number)), null, false);
+    } catch (final ArithmeticException e) {
+      return new IntTry(0, e, false);
+    }
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try was successful else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isSuccess() {
+    return Objects.isNull(this.cause);
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try operation fails else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isFailure() {
+    return Objects.nonNull(this.cause);
+  }
+
+  /**
+   * Try is Empty if operation is Failed or Filter condition is not met.
+   *
+   * @return {@code true} if try is empty else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return this.empty || this.isFailure();
+  }
+
+  /**
+   * Try is Not Empty if operation is Successful and filter condition is met.
+   *
+   * @return {@code true} if try is not empty else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isNotEmpty() {
+    return !this.isEmpty();
+  }
+
+  /**
+   * Use this method to retrieve the try operation result.
+   *
+   * @return the try operation result
+   * @throws IllegalStateException if the filter condition is not met.
+   * @throws UnsupportedOperationException if the try operation failed.
+   */
+  public int getAsInt() {
+    if (this.isFailure()) {
+      throw new UnsupportedOperationException("No result, try operation failed.", this.cause);
+    }
+    if (this.empty) {
+      throw new IllegalStateException("No result, filter condition is not met.");
+    }
+    return this.value;
+  }
+
+  /**
+   * Retrieve the Cause of try operation failure.
+   *
+   * @return exception thrown during try operation, {@code null} if the operation was successful.
+   */
+  @Contract(pure = true)
+  public @Nullable Throwable getCause() {
+    return this.cause;
+  }
+
+  /**
+   * If a result is present, apply the provided mapping function to it.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @return new instance describing the result of the mapping function, otherwise this instance.
+   * @see Try#map(art.cutils.function.ThrowingFunction)
+   */
+  public @NotNull IntTry map(final IntThrowingUnaryOperation mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    if (this.isEmpty()) {
+      return this;
+    }
+    try {
+      return new IntTry(mapper.applyAsInt(this.value), null, false);
+    } catch (final Exception e) {
+      return new IntTry(0, e, false);
+    }
+  }
+
+  /**
+   * If a result is present, apply the provided mapping function to it, and return a {@link Try} of
+   * the mapped result.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @param <R> The type of the result of the mapping function
+   * @return instance of {@link Try} describing the result of the mapping function, otherwise a
+   *     {@link Try} in the same state as this instance.
+   */
+  public <R> @NotNull Try<R> mapToObj(final IntThrowingFunction<? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    if (this.isFailure()) {
+      return Try.failure(this.cause);
+    }
+    if (this.empty) {
+      return Try.emptySuccess();
+    }
+    try {
+      return Try.success(mapper.apply(this.value));
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+  }
+
+  /**
+   * If a result is present, and the result matches the given predicate, returns this instance,
+   * otherwise returns an empty {@link IntTry}.
+   *
+   * @param predicate the predicate to apply to a result, if present
+   * @return this instance if the result matches the predicate, otherwise an empty {@link IntTry}
+   */
+  public @NotNull IntTry filter(final IntPredicate predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    return this.isNotEmpty() && !predicate.test(this.value) ? IntTry.EMPTY : this;
+  }
+
+  /**
+   * If a result is present, invoke the specified consumer with it.
+   *
+   * @param result the consumer of the result.
+   * @return existing instance of {@link IntTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull IntTry onSuccess(final IntConsumer result) {
+    Objects.requireNonNull(result, "Success result Consumer cannot be null.");
+    if (this.isNotEmpty()) {
+      result.accept(this.value);
+    }
+    return this;
+  }
+
+  /**
+   * If try operations fails, invoke the specified consumer with the exception thrown.
+   *
+   * @param cause the consumer of the cause.
+   * @return existing instance of {@link IntTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull IntTry onFailure(final Consumer<? super Throwable> cause) {
+    Objects.requireNonNull(cause, "Failure cause Consumer cannot be null.");
+    if (this.isFailure()) {
+      cause.accept(this.cause);
+    }
+    return this;
+  }
+
+  /**
+   * If try filter condition is not met, invoke the specified {@link Runnable}.
+   *
+   * @param run the operation to be executed if filter condition is not met.
+   * @return existing instance of {@link IntTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull IntTry onEmpty(final Runnable run) {
+    Objects.requireNonNull(run, "onEmpty Runnable cannot be null.");
+    if (this.empty) {
+      run.run();
+    }
+    return this;
+  }
+
+  /**
+   * Return the result if present, otherwise return {@code other}.
+   *
+   * @param other the value to be returned if there is no result available.
+   * @return the result, if present, otherwise {@code other}
+   */
+  @Contract(pure = true)
+  public int orElse(final int other) {
+    return this.isNotEmpty() ? this.value : other;
+  }
+
+  /**
+   * Return the result if present, otherwise the result of {@code other}.
+   *
+   * @param other a {@link IntSupplier} whose result is returned if there is no result available.
+   * @return the result, if present, otherwise the result of {@code other}
+   */
+  public int orElseGet(final IntSupplier other) {
+    Objects.requireNonNull(other, "Supplier cannot be null.");
+    return this.isNotEmpty() ? this.value : other.getAsInt();
+  }
+
+  /**
+   * Return the result if present, otherwise throw the exception supplied.
+   *
+   * @param <X> Type of the exception to be thrown
+   * @param exceptionSupplier The supplier which will return the exception to be thrown
+   * @return the present value
+   * @throws X if there is no value present
+   */
+  public <X extends Throwable> int orElseThrow(final Supplier<? extends X> exceptionSupplier)
+      throws X {
+    Objects.requireNonNull(exceptionSupplier, "Exception supplier cannot be null.");
+    if (this.isNotEmpty()) {
+      return this.value;
+    }
+    throw exceptionSupplier.get();
+  }
+
+  /**
+   * Converts this instance to a {@link Try} of the boxed result.
+   *
+   * @return instance of {@link Try} in the same state as this instance.
+   */
+  public @NotNull Try<Integer> boxed() {
+    if (this.isFailure()) {
+      return Try.failure(this.cause);
+    }
+    return this.empty ? Try.emptySuccess() : Try.success(this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    if (this.isFailure()) {
+      return this.cause.hashCode();
+    }
+    return 31 * Integer.hashCode(this.value) + Boolean.hashCode(this.empty);
+  }
+
+  @Override
+  @Contract(value = "null -> false", pure = true)
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof IntTry) {
+      final IntTry that = (IntTry) o;
+      return this.value == that.value
+          && this.empty == that.empty
+          && Objects.equals(this.cause, that.cause);
+    }
+    return false;
+  }
+
+  @Override
+  public @NotNull String toString() {
+    if (this.isFailure()) {
+      return "IntTry{" + "cause=" + this.cause + '}';
+    }
+    return this.empty ? "IntTry{empty}" : "IntTry{" + "value=" + this.value + '}';
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link Executor} running the tasks sharing a key one at a time, in the order they were
+ * submitted, while tasks with different keys run in parallel on another {@link Executor}. Each key
+ * gets a serial lane of its own, which holds no thread while it has no task waiting.
+ *
+ * <p>The key of a task is read from a {@link Keyed} task, other tasks run without ordering.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class KeyedExecutor implements Executor {
+
+  /** The executor running the tasks. */
+  private final Executor executor;
+
+  /** The serial lane of each key. */
+  private final ConcurrentMap<Object, Serial> lanes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs an executor ordering the tasks of each key on {@code executor}.
+   *
+   * @param executor the executor running the tasks
+   */
+  @Contract(pure = true)
+  KeyedExecutor(final Executor executor) {
+    this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+  }
+
+  /**
+   * Use to get the key of a task.
+   *
+   * @param task the task
+   * @return the key of the task, {@code null} if it has none
+   */
+  @Contract(pure = true)
+  static Object keyOf(final Object task) {
+    return task instanceof Keyed ? ((Keyed) task).key() : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    final Object key = KeyedExecutor.keyOf(task);
+    if (Objects.isNull(key)) {
+      this.executor.execute(task);
+    } else {
+      this.lanes.computeIfAbsent(key, k -> new Serial(this.executor)).execute(task);
+    }
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "KeyedExecutor{" + "executor=" + this.executor + ", lanes=" + this.lanes.size() + '}';
+  }
+
+  /** A task with a key. */
+  interface Keyed {
+
+    /**
+     * Retrieve the key of the task.
+     *
+     * @return the key of the task, {@code null} if it has none
+     */
+    Object key();
+  }
+
+  /**
+   * A {@link Callable} with a key.
+   *
+   * @param <T> the type of the value from the task
+   */
+  static final class KeyedTask<T> implements Callable<T>, Keyed {
+
+    /** The key of the task. */
+    private final Object key;
+
+    /** The task. */
+    private final Callable<T> task;
+
+    /**
+     * Constructs a task with a key.
+     *
+     * @param key the key of the task
+     * @param task the task
+     */
+    @Contract(pure = true)
+    KeyedTask(final Object key, final Callable<T> task) {
+      this.key = key;
+      this.task = task;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object key() {
+      return this.key;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T call() throws Exception {
+      return this.task.call();
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return "KeyedTask{" + "key=" + this.key + ", task=" + this.task + '}';
+    }
+  }
+
+  /**
+   * A {@link FutureTask} carrying the key of its {@link Callable}, if any.
+   *
+   * @param <T> the type of the value from the task
+   */
+  static class KeyedFuture<T> extends FutureTask<T> implements Keyed {
+
+    /** The key of the task. */
+    private final Object key;
+
+    /**
+     * Constructs a future running the given task.
+     *
+     * @param task the task
+     */
+    KeyedFuture(final Callable<T> task) {
+      super(task);
+      this.key = KeyedExecutor.keyOf(task);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object key() {
+      return this.key;
+    }
+  }
+
+  /** Runs its tasks one at a time, in submission order, on another {@link Executor}. */
+  private static final class Serial implements Executor {
+
+    /** The executor running the tasks. */
+    private final Executor executor;
+
+    /** The tasks waiting to run. */
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    /** Whether a task of the lane is running or handed to the executor. */
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    /**
+     * Constructs a lane running its tasks on {@code executor}.
+     *
+     * @param executor the executor running the tasks
+     */
+    @Contract(pure = true)
+    private Serial(final Executor executor) {
+      this.executor = executor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute(final @NotNull Runnable task) {
+      this.pending.offer(task);
+      this.schedule();
+    }
+
+    /** Hands the next task to the executor, unless one is running. */
+    private void schedule() {
+      if (!this.pending.isEmpty() && this.active.compareAndSet(false, true)) {
+        try {
+          this.executor.execute(this::runNext);
+        } catch (final RuntimeException e) {
+          this.active.set(false);
+          throw e;
+        }
+      }
+    }
+
+    /** Runs the next task, then schedules the one after it. */
+    private void runNext() {
+      try {
+        final Runnable task = this.pending.poll();
+        if (Objects.nonNull(task)) {
+          task.run();
+        }
+      } finally {
+        this.active.set(false);
+        this.schedule();
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link ExecutorService} view over a pool shared with other leases. Shutting a lease down
+ * stops it from accepting tasks and releases it from the pool, without stopping the pool's
+ * threads; it terminates once the tasks it submitted complete.
+ *
+ * <p>{@link Lease#shutdownNow()} behaves as {@link Lease#shutdown()}: tasks already handed to the
+ * pool are not interrupted, cancel their futures instead.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Pools
+ * @since v2.8
+ */
+final class Lease extends AbstractExecutorService {
+
+  /** The pool running the tasks. */
+  private final Pools.Pool pool;
+
+  /** The number of tasks submitted and not yet complete. */
+  private final AtomicInteger active = new AtomicInteger();
+
+  /** Whether the lease was shut down. */
+  private final AtomicBoolean shutdown = new AtomicBoolean();
+
+  /** Released once the lease is shut down and its tasks complete. */
+  private final CountDownLatch terminated = new CountDownLatch(1);
+
+  /**
+   * Constructs a lease of the given pool.
+   *
+   * @param pool the pool running the tasks
+   */
+  @Contract(pure = true)
+  Lease(final Pools.Pool pool) {
+    this.pool = pool;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    Objects.requireNonNull(task, "task cannot be null");
+    this.active.incrementAndGet();
+    if (this.shutdown.get()) {
+      this.complete();
+      throw new RejectedExecutionException("Lease of " + this.pool.getName() + " is shut down.");
+    }
+    try {
+      this.pool.executor()
+          .execute(
+              () -> {
+                try {
+                  task.run();
+                } finally {
+                  this.complete();
+                }
+              });
+    } catch (final RuntimeException e) {
+      this.complete();
+      throw e;
+    }
+  }
+
+  /** Records the completion of a task, terminating the lease if it was the last one. */
+  private void complete() {
+    if (this.active.decrementAndGet() == 0 && this.shutdown.get()) {
+      this.terminated.countDown();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void shutdown() {
+    if (this.shutdown.compareAndSet(false, true)) {
+      this.pool.release();
+      if (this.active.get() == 0) {
+        this.terminated.countDown();
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+    this.shutdown();
+    return Collections.emptyList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isTerminated() {
+    return this.terminated.getCount() == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean awaitTermination(final long timeout, final @NotNull TimeUnit unit)
+      throws InterruptedException {
+    return this.terminated.await(timeout, unit);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "Lease{"
+        + "pool="
+        + this.pool.getName()
+        + ", active="
+        + this.active
+        + ", shutdown="
+        + this.shutdown
+        + '}';
+  }
+}
@@ -0,0 +1,429 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.LongDealer;
+import art.cutils.function.LongThrowingFunction;
+import art.cutils.function.LongThrowingUnaryOperation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link LongTry} is the {@code long} primitive specialization of {@link Try}. It holds its
+ * result as a {@code long}, so chaining operations on numeric results does not box them.
+ *
+ * <p>Like {@link Try}, {@link LongTry} is immutable and is in one of three states:
+ * successful with a result, empty when a filter condition is not met, or failed.
+ *
+ * <pre>{@code
+ * long port = LongTry.of(() -> Long.parseLong(value)).filter(p -> p > 0).orElse(8080);
+ * }</pre>
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @see Try
+ * @since v2.8
+ */
+public final class LongTry {
+
+  /** Shared state of a successful operation whose filter condition is not met. */
+  private static final LongTry EMPTY = new LongTry(0, null, true);
+
+  /** The result of the operation. */
+  private final long value;
+
+  /** The cause of failure, {@code null} if the operation was successful. */
+  private final Throwable cause;
+
+  /** Indicates whether the filter condition is not met. */
+  private final boolean empty;
+
+  /**
+   * Constructs an instance with the given state.
+   *
+   * @param value the result of the operation
+   * @param cause the cause of failure
+   * @param empty whether the filter condition is not met
+   */
+  @Contract(pure = true)
+  private LongTry(final long value, final Throwable cause, final boolean empty) {
+    this.value = value;
+    this.cause = cause;
+    this.empty = empty;
+  }
+
+  /**
+   * Accepts a {@link LongDealer} type function which is expected to return a result if operation
+   * was successful.
+   *
+   * @param operation the operation that will be tried.
+   * @return instance of {@link LongTry}, successful with the result or failed with the exception.
+   */
+  @Contract("_ -> new")
+  public static @NotNull LongTry of(final LongDealer operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    try {
+      return new LongTry(operation.dealAsLong(), null, false);
+    } catch (final Exception e) {
+      return new LongTry(0, e, false);
+    }
+  }
+
+  /**
+   * Creates a successful {@link LongTry} with the given result.
+   *
+   * @param value the result
+   * @return instance of {@link LongTry} in a successful state.
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull LongTry success(final long value) {
+    return new LongTry(value, null, false);
+  }
+
+  /**
+   * Creates a failed {@link LongTry} with the given cause.
+   *
+   * @param cause the cause of failure
+   * @return instance of {@link LongTry} in a failed state.
+   */
+  @Contract("_ -> new")
+  public static @NotNull LongTry failure(final Throwable cause) {
+    Objects.requireNonNull(cause, "cause cannot be null");
+    return new LongTry(0, cause, false);
+  }
+
+  /**
+   * Converts a {@link Try} of a number to {@link LongTry}. A successful {@link Try} without a
+   * result, or with a {@code null} result, is converted to an empty {@link LongTry}. A result that
+   * is not an integral value in the range of {@code long} fails with an {@link
+   * ArithmeticException} rather than being truncated.
+   *
+   * @param result the {@link Try} to convert
+   * @return instance of {@link LongTry} in the same state as {@code result}.
+   */
+  public static @NotNull LongTry from(final @NotNull Try<? extends Number> result) {
+    Objects.requireNonNull(result, "result cannot be null");
+    if (result.isFailure()) {
+      return new LongTry(0, result.getCause(), false);
+    }
+    final Number number = result.isResult() && result.isNotEmpty() ? result.get() : null;
+    if (Objects.isNull(number)) {
+      return LongTry.EMPTY;
+    }
+    try {
+      return new LongTry(LongTry.exactLong(number), null, false);
+    } catch (final ArithmeticException e) {
+      return new LongTry(0, e, false);
+    }
+  }
+
+  /**
+   * Converts a number to {@code long} without loss.
+   *
+   * @param number the number to convert
+   * @return the value of {@code number} as a {@code long}
+   * @throws ArithmeticException if {@code number} is not an integral value in the range of {@code
+   *     long}
+   */
+  static long exactLong(final @NotNull Number number) {
+    if (number instanceof Long
+        || number instanceof Integer
+        || number instanceof Short
+        || number instanceof Byte
+        || number instanceof AtomicLong
+        || number instanceof AtomicInteger) {
+      return number.longValue();
+    }
+    if (number instanceof BigInteger) {
+      return ((BigInteger) number).longValueExact();
+    }
+    if (number instanceof BigDecimal) {
+      return ((BigDecimal) number).longValueExact();
+    }
+    final double value = number.doubleValue();
+    if (value != Math.rint(value) || value < -0x1p63 || value >= 0x1p63) {
+      throw new ArithmeticException(number + " is not an integral value in the range of long");
+    }
+    return (long) value;
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try was successful else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isSuccess() {
+    return Objects.isNull(this.cause);
+  }
+
+  /**
+   * Use to check the state of the try operation.
+   *
+   * @return {@code true} if try operation fails else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isFailure() {
+    return Objects.nonNull(this.cause);
+  }
+
+  /**
+   * Try is Empty if operation is Failed or Filter condition is not met.
+   *
+   * @return {@code true} if try is empty else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return this.empty || this.isFailure();
+  }
+
+  /**
+   * Try is Not Empty if operation is Successful and filter condition is met.
+   *
+   * @return {@code true} if try is not empty else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isNotEmpty() {
+    return !this.isEmpty();
+  }
+
+  /**
+   * Use this method to retrieve the try operation result.
+   *
+   * @return the try operation result
+   * @throws IllegalStateException if the filter condition is not met.
+   * @throws UnsupportedOperationException if the try operation failed.
+   */
+  public long getAsLong() {
+    if (this.isFailure()) {
+      throw new UnsupportedOperationException("No result, try operation failed.", this.cause);
+    }
+    if (this.empty) {
+      throw new IllegalStateException("No result, filter condition is not met.");
+    }
+    return this.value;
+  }
+
+  /**
+   * Retrieve the Cause of try operation failure.
+   *
+   * @return exception thrown during try operation, {@code null} if the operation was successful.
+   */
+  @Contract(pure = true)
+  public @Nullable Throwable getCause() {
+    return this.cause;
+  }
+
+  /**
+   * If a result is present, apply the provided mapping function to it.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @return new instance describing the result of the mapping function, otherwise this instance.
+   * @see Try#map(art.cutils.function.ThrowingFunction)
+   */
+  public @NotNull LongTry map(final LongThrowingUnaryOperation mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    if (this.isEmpty()) {
+      return this;
+    }
+    try {
+      return new LongTry(mapper.applyAsLong(this.value), null, false);
+    } catch (final Exception e) {
+      return new LongTry(0, e, false);
+    }
+  }
+
+  /**
+   * If a result is present, apply the provided mapping function to it, and return a {@link Try} of
+   * the mapped result.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @param <R> The type of the result of the mapping function
+   * @return instance of {@link Try} describing the result of the mapping function, otherwise a
+   *     {@link Try} in the same state as this instance.
+   */
+  public <R> @NotNull Try<R> mapToObj(final LongThrowingFunction<? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    if (this.isFailure()) {
+      return Try.failure(this.cause);
+    }
+    if (this.empty) {
+      return Try.emptySuccess();
+    }
+    try {
+      return Try.success(mapper.apply(this.value));
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+  }
+
+  /**
+   * If a result is present, and the result matches the given predicate, returns this instance,
+   * otherwise returns an empty {@link LongTry}.
+   *
+   * @param predicate the predicate to apply to a result, if present
+   * @return this instance if the result matches the predicate, otherwise an empty {@link LongTry}
+   */
+  public @NotNull LongTry filter(final LongPredicate predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    return this.isNotEmpty() && !predicate.test(this.value) ? LongTry.EMPTY : this;
+  }
+
+  /**
+   * If a result is present, invoke the specified consumer with it.
+   *
+   * @param result the consumer of the result.
+   * @return existing instance of {@link LongTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull LongTry onSuccess(final LongConsumer result) {
+    Objects.requireNonNull(result, "Success result Consumer cannot be null.");
+    if (this.isNotEmpty()) {
+      result.accept(this.value);
+    }
+    return this;
+  }
+
+  /**
+   * If try operations fails, invoke the specified consumer with the exception thrown.
+   *
+   * @param cause the consumer of the cause.
+   * @return existing instance of {@link LongTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull LongTry onFailure(final Consumer<? super Throwable> cause) {
+    Objects.requireNonNull(cause, "Failure cause Consumer cannot be null.");
+    if (this.isFailure()) {
+      cause.accept(this.cause);
+    }
+    return this;
+  }
+
+  /**
+   * If try filter condition is not met, invoke the specified {@link Runnable}.
+   *
+   * @param run the operation to be executed if filter condition is not met.
+   * @return existing instance of {@link LongTry}
+   */
+  @Contract("_ -> this")
+  public @NotNull LongTry onEmpty(final Runnable run) {
+    Objects.requireNonNull(run, "onEmpty Runnable cannot be null.");
+    if (this.empty) {
+      run.run();
+    }
+    return this;
+  }
+
+  /**
+   * Return the result if present, otherwise return {@code other}.
+   *
+   * @param other the value to be returned if there is no result available.
+   * @return the result, if present, otherwise {@code other}
+   */
+  @Contract(pure = true)
+  public long orElse(final long other) {
+    return this.isNotEmpty() ? this.value : other;
+  }
+
+  /**
+   * Return the result if present, otherwise the result of {@code other}.
+   *
+   * @param other a {@link LongSupplier} whose result is returned if there is no result available.
+   * @return the result, if present, otherwise the result of {@code other}
+   */
+  public long orElseGet(final LongSupplier other) {
+    Objects.requireNonNull(other, "Supplier cannot be null.");
+    return this.isNotEmpty() ? this.value : other.getAsLong();
+  }
+
+  /**
+   * Return the result if present, otherwise throw the exception supplied.
+   *
+   * @param <X> Type of the exception to be thrown
+   * @param exceptionSupplier The supplier which will return the exception to be thrown
+   * @return the present value
+   * @throws X if there is no value present
+   */
+  public <X extends Throwable> long orElseThrow(final Supplier<? extends X> exceptionSupplier)
+      throws X {
+    Objects.requireNonNull(exceptionSupplier, "Exception supplier cannot be null.");
+    if (this.isNotEmpty()) {
+      return this.value;
+    }
+    throw exceptionSupplier.get();
+  }
+
+  /**
+   * Converts this instance to a {@link Try} of the boxed result.
+   *
+   * @return instance of {@link Try} in the same state as this instance.
+   */
+  public @NotNull Try<Long> boxed() {
+    if (this.isFailure()) {
+      return Try.failure(this.cause);
+    }
+    return this.empty ? Try.emptySuccess() : Try.success(this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    if (this.isFailure()) {
+      return this.cause.hashCode();
+    }
+    return 31 * Long.hashCode(this.value) + Boolean.hashCode(this.empty);
+  }
+
+  @Override
+  @Contract(value = "null -> false", pure = true)
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof LongTry) {
+      final LongTry that = (LongTry) o;
+      return this.value == that.value
+          && this.empty == that.empty
+          && Objects.equals(this.cause, that.cause);
+    }
+    return false;
+  }
+
+  @Override
+  public @NotNull String toString() {
+    if (this.isFailure()) {
+      return "LongTry{" + "cause=" + this.cause + '}';
+    }
+    return this.empty ? "LongTry{empty}" : "LongTry{" + "value=" + this.value + '}';
+  }
+}
@@ -23,6 +23,9 @@
 
 package art.cutils.value;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jetbrains.annotations.Contract;
@@ -36,7 +39,8 @@ import org.jetbrains.annotations.NotNull;
  * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
  * @since 2.0
  */
-public final class Pair<F, S> {
+public final class Pair<F, S> implements Serializable {
+  private static final long serialVersionUID = -5873402416529917215L;
 
   /** First value. */
   private F first;
@@ -238,6 +242,25 @@ public final class Pair<F, S> {
     return this.second != null;
   }
 
+  /**
+   * Replaces this instance with its compact serialized form.
+   *
+   * @return the serialized form of this instance
+   */
+  private Object writeReplace() {
+    return new Wire(this);
+  }
+
+  /**
+   * Guards against streams not written through {@link Pair#writeReplace()}.
+   *
+   * @param in the stream to read from
+   * @throws InvalidObjectException always
+   */
+  private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Wire form required.");
+  }
+
   @Override
   public int hashCode() {
     return new HashCodeBuilder(17, 37).append(this.first).append(this.second).toHashCode();
@@ -0,0 +1,244 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A registry of thread pools shared by short-lived users such as {@link Syndicate}, so they reuse
+ * warm threads instead of creating and tearing down a pool each time.
+ *
+ * <p>Each user leases a pool: the lease is an {@link ExecutorService} of its own, shutting it down
+ * releases the pool rather than stopping its threads. The {@link Pools#shared()} pool lives for
+ * the whole process; a named pool is reference-counted, created by its first lease and shut down
+ * once its last lease is.
+ *
+ * <pre>{@code
+ * try (Syndicate<Quote> syndicate = Syndicate.init("quotes", 16)) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>Pool threads are daemon threads, they do not keep the JVM alive.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class Pools {
+
+  /** The named pools with at least one lease. */
+  private static final ConcurrentMap<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+  /** The process-wide pool, growing and shrinking like {@code Executors.newCachedThreadPool()}. */
+  private static final Pool SHARED =
+      new Pool(
+          "shared",
+          new ThreadPoolExecutor(
+              0,
+              Integer.MAX_VALUE,
+              60L,
+              TimeUnit.SECONDS,
+              new SynchronousQueue<>(),
+              Pools.threads("shared")),
+          0,
+          true);
+
+  /** Locked for life. */
+  @Contract(pure = true)
+  private Pools() {}
+
+  /**
+   * Leases the process-wide pool, which creates threads as needed and reuses idle ones.
+   *
+   * @return new lease of the process-wide pool
+   */
+  @Contract(" -> new")
+  public static @NotNull ExecutorService shared() {
+    return Pools.SHARED.lease();
+  }
+
+  /**
+   * Leases the named pool of {@code size} threads, creating it if it has no lease.
+   *
+   * @param name the name of the pool
+   * @param size the number of threads of the pool
+   * @return new lease of the named pool
+   * @throws IllegalArgumentException if {@code size} is less than {@code 1}, or the pool exists
+   *     with another size
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull ExecutorService lease(final @NotNull String name, final int size) {
+    Objects.requireNonNull(name, "name cannot be null");
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be at least 1.");
+    }
+    final Pool pool =
+        Pools.POOLS.compute(
+            name,
+            (key, existing) -> {
+              if (Objects.isNull(existing)) {
+                final ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                        size,
+                        size,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        Pools.threads(name));
+                return new Pool(name, executor, 1, false);
+              }
+              if (existing.size != size) {
+                throw new IllegalArgumentException(
+                    "Pool " + name + " exists with " + existing.size + " threads.");
+              }
+              existing.leases++;
+              return existing;
+            });
+    return new Lease(pool);
+  }
+
+  /**
+   * Use to get the number of leases of the named pool.
+   *
+   * @param name the name of the pool
+   * @return the number of leases, {@code 0} if the pool does not exist
+   */
+  public static int leases(final @NotNull String name) {
+    Objects.requireNonNull(name, "name cannot be null");
+    final Pool pool = Pools.POOLS.get(name);
+    return Objects.isNull(pool) ? 0 : pool.leases;
+  }
+
+  /**
+   * Creates the factory of the daemon threads of a pool.
+   *
+   * @param name the name of the pool
+   * @return new instance of {@link ThreadFactory}
+   */
+  private static @NotNull ThreadFactory threads(final String name) {
+    final AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, "cutils-" + name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** A pool of the registry. */
+  static final class Pool {
+
+    /** The name of the pool. */
+    private final String name;
+
+    /** The executor running the tasks of every lease. */
+    private final ThreadPoolExecutor executor;
+
+    /** The number of threads of a named pool. */
+    private final int size;
+
+    /** Whether the pool lives for the whole process. */
+    private final boolean pinned;
+
+    /** The number of leases, guarded by {@link Pools#POOLS}. */
+    private int leases;
+
+    /**
+     * Constructs a pool.
+     *
+     * @param name the name of the pool
+     * @param executor the executor running the tasks of every lease
+     * @param leases the number of leases
+     * @param pinned whether the pool lives for the whole process
+     */
+    @Contract(pure = true)
+    private Pool(
+        final String name,
+        final ThreadPoolExecutor executor,
+        final int leases,
+        final boolean pinned) {
+      this.name = name;
+      this.executor = executor;
+      this.size = executor.getCorePoolSize();
+      this.leases = leases;
+      this.pinned = pinned;
+    }
+
+    /**
+     * Creates a lease of a pool living for the whole process.
+     *
+     * @return new instance of {@link Lease}
+     */
+    @Contract(" -> new")
+    private @NotNull Lease lease() {
+      return new Lease(this);
+    }
+
+    /** Releases a lease of the pool, shutting a named pool down once its last lease is. */
+    void release() {
+      if (this.pinned) {
+        return;
+      }
+      Pools.POOLS.computeIfPresent(
+          this.name,
+          (key, pool) -> {
+            if (pool != this || --pool.leases > 0) {
+              return pool;
+            }
+            pool.executor.shutdown();
+            return null;
+          });
+    }
+
+    /**
+     * Retrieve the executor running the tasks of every lease.
+     *
+     * @return the executor of the pool
+     */
+    @Contract(pure = true)
+    ThreadPoolExecutor executor() {
+      return this.executor;
+    }
+
+    /**
+     * Retrieve the name of the pool.
+     *
+     * @return the name of the pool
+     */
+    @Contract(pure = true)
+    String getName() {
+      return this.name;
+    }
+  }
+}
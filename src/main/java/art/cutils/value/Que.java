@@ -26,12 +26,21 @@ package art.cutils.value;
 import art.cutils.function.Accepter;
 import art.cutils.function.Dealer;
 import art.cutils.function.Executable;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -142,6 +151,19 @@ public final class Que<T> implements Serializable {
     return Que.createReference(null);
   }
 
+  /**
+   * Starts recording a {@link QueProgram}: a {@link Que} chain recorded once and run on any number
+   * of inputs.
+   *
+   * @param <T> Type of the input to the program
+   * @return a {@link QueProgram} without steps
+   * @since v2.8
+   */
+  @Contract(pure = true)
+  public static <T> @NotNull QueProgram<T, T> program() {
+    return QueProgram.init();
+  }
+
   /**
    * If a {@link Que} is not empty then {@code value} is used {@link Map} to create a new instance
    * of {@link Que}.
@@ -322,6 +344,129 @@ public final class Que<T> implements Serializable {
     return CompletableFuture.completedFuture(this.value);
   }
 
+  /**
+   * Continues this {@link Que} asynchronously: the stages added on the returned {@link AsyncQue}
+   * run on the given executor.
+   *
+   * @param executor the executor running the stages
+   * @return new instance of {@link AsyncQue} starting from the current value
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public @NotNull AsyncQue<T> async(final Executor executor) {
+    return AsyncQue.from(this.value, executor);
+  }
+
+  /**
+   * Applies every branch to the current value concurrently on the {@link
+   * ForkJoinPool#commonPool()}, failing on the first failed branch.
+   *
+   * @param branches the independent transformations of the value
+   * @param <R> Type of the result of each branch
+   * @return a successful {@link Try} of the result of every branch, in branch order, otherwise a
+   *     failed {@link Try} with the failure of the first failed branch.
+   * @see Que#forkOn(Executor, Traversal.Mode, long, TimeUnit, Function[])
+   * @since v2.8
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public final <R> @NotNull Try<List<R>> fork(final Function<? super T, ? extends R>... branches) {
+    return Fork.join(
+        this.value,
+        ForkJoinPool.commonPool(),
+        Traversal.Mode.FAIL_FAST,
+        0,
+        TimeUnit.NANOSECONDS,
+        Que.branches(branches));
+  }
+
+  /**
+   * Applies every branch to the current value concurrently on the given executor, failing on the
+   * first failed branch.
+   *
+   * @param executor the executor running the branches
+   * @param branches the independent transformations of the value
+   * @param <R> Type of the result of each branch
+   * @return a successful {@link Try} of the result of every branch, in branch order, otherwise a
+   *     failed {@link Try} with the failure of the first failed branch.
+   * @see Que#forkOn(Executor, Traversal.Mode, long, TimeUnit, Function[])
+   * @since v2.8
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public final <R> @NotNull Try<List<R>> forkOn(
+      final Executor executor, final Function<? super T, ? extends R>... branches) {
+    return Fork.join(
+        this.value,
+        executor,
+        Traversal.Mode.FAIL_FAST,
+        0,
+        TimeUnit.NANOSECONDS,
+        Que.branches(branches));
+  }
+
+  /**
+   * Applies every branch to the current value concurrently on the given executor and joins their
+   * results, in branch order. With {@link Traversal.Mode#FAIL_FAST} the join fails as soon as a
+   * branch fails: the running branches are interrupted, and those not started yet never run. With
+   * {@link Traversal.Mode#COLLECT_ALL} every branch completes, and the join fails with the failure
+   * of the failed branch or, if several failed, with a {@link CompletionException} caused by the
+   * failure of the first one, the failures of the later ones suppressed. On timeout, the branches
+   * are cancelled as when failing fast.
+   *
+   * <pre>{@code
+   * Try<List<Object>> enriched =
+   *     Que.of(customer)
+   *         .forkOn(
+   *             executor,
+   *             Traversal.Mode.FAIL_FAST,
+   *             200,
+   *             TimeUnit.MILLISECONDS,
+   *             this::loadOrders,
+   *             this::loadAddress,
+   *             this::loadRating);
+   * }</pre>
+   *
+   * @param executor the executor running the branches
+   * @param mode the failure behaviour
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}
+   * @param branches the independent transformations of the value
+   * @param <R> Type of the result of each branch
+   * @return a successful {@link Try} of the result of every branch, in branch order, otherwise a
+   *     failed {@link Try} with the failure of the failed branches, or a {@link TimeoutException}
+   *     if the branches did not complete in time.
+   * @since v2.8
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public final <R> @NotNull Try<List<R>> forkOn(
+      final Executor executor,
+      final Traversal.Mode mode,
+      final long timeout,
+      final TimeUnit unit,
+      final Function<? super T, ? extends R>... branches) {
+    return Fork.join(this.value, executor, mode, timeout, unit, Que.branches(branches));
+  }
+
+  /**
+   * Copies the branches of a fork into a {@link List}.
+   *
+   * @param branches the branches
+   * @param <T> Type of the value
+   * @param <R> Type of the result of each branch
+   * @return new instance of {@link List} of the branches, in order
+   */
+  private static <T, R> @NotNull List<Function<? super T, ? extends R>> branches(
+      final Function<? super T, ? extends R>[] branches) {
+    Objects.requireNonNull(branches, "branches cannot be null");
+    final List<Function<? super T, ? extends R>> functions = new ArrayList<>(branches.length);
+    for (final Function<? super T, ? extends R> branch : branches) {
+      functions.add(branch);
+    }
+    return functions;
+  }
+
   /**
    * Used to get current value of {@link Optional} type.
    *
@@ -333,6 +478,25 @@ public final class Que<T> implements Serializable {
     return Optional.ofNullable(this.value);
   }
 
+  /**
+   * Replaces this instance with its compact serialized form.
+   *
+   * @return the serialized form of this instance
+   */
+  private Object writeReplace() {
+    return new Wire(this);
+  }
+
+  /**
+   * Guards against streams not written through {@link Que#writeReplace()}.
+   *
+   * @param in the stream to read from
+   * @throws InvalidObjectException always
+   */
+  private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Wire form required.");
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(this.value);
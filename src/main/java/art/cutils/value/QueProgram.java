@@ -0,0 +1,321 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Accepter;
+import art.cutils.function.Dealer;
+import art.cutils.function.Executable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link QueProgram} is a {@link Que} chain recorded once and run on any number of inputs. Where
+ * {@code Que.of(input).map(f).andConsume(c).andRun(r)} creates a {@link Que} and, usually, a
+ * capturing lambda per step on every call, a program runs its recorded steps in a single loop
+ * without allocating per step.
+ *
+ * <pre>{@code
+ * QueProgram<Event, Receipt> handle =
+ *     Que.<Event>program()
+ *         .andConsume(this::validate)
+ *         .map(this::toCommand)
+ *         .andConsume(this::persist)
+ *         .andRun(metrics::increment)
+ *         .map(Receipt::of);
+ *
+ * Receipt receipt = handle.run(event);
+ * }</pre>
+ *
+ * <p>A program is immutable, recording a step returns a new program, so it can be shared between
+ * threads.
+ *
+ * @param <I> the type of the input to the program
+ * @param <O> the type of the value of the program
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class QueProgram<I, O> {
+
+  /** Step kind of {@link QueProgram#map(Function)}. */
+  private static final byte MAP = 0;
+
+  /** Step kind of {@link QueProgram#andConsume(Consumer)}. */
+  private static final byte CONSUME = 1;
+
+  /** Step kind of {@link QueProgram#andAccept(Accepter)}. */
+  private static final byte ACCEPT = 2;
+
+  /** Step kind of {@link QueProgram#andRun(Runnable)}. */
+  private static final byte RUN = 3;
+
+  /** Step kind of {@link QueProgram#andExecute(Executable)}. */
+  private static final byte EXECUTE = 4;
+
+  /** Step kind of {@link QueProgram#andSupply(Supplier)}. */
+  private static final byte SUPPLY = 5;
+
+  /** Step kind of {@link QueProgram#andDeal(Dealer)}. */
+  private static final byte DEAL = 6;
+
+  /** Step kind of {@link QueProgram#andCall(Callable)}. */
+  private static final byte CALL = 7;
+
+  /** The program without steps. */
+  private static final QueProgram<?, ?> IDENTITY = new QueProgram<>(new byte[0], new Object[0]);
+
+  /** The kind of each step, in order. */
+  private final byte[] kinds;
+
+  /** The operation of each step, in order. */
+  private final Object[] operations;
+
+  /**
+   * Constructs a program with the given steps.
+   *
+   * @param kinds the kind of each step
+   * @param operations the operation of each step
+   */
+  @Contract(pure = true)
+  private QueProgram(final byte[] kinds, final Object[] operations) {
+    this.kinds = kinds;
+    this.operations = operations;
+  }
+
+  /**
+   * Creates a program without steps, it returns its input.
+   *
+   * @param <I> the type of the input to the program
+   * @return the program without steps
+   * @see Que#program()
+   */
+  @SuppressWarnings("unchecked")
+  @Contract(pure = true)
+  static <I> @NotNull QueProgram<I, I> init() {
+    return (QueProgram<I, I>) QueProgram.IDENTITY;
+  }
+
+  /**
+   * Creates a new program with the given step appended.
+   *
+   * @param kind the kind of the step
+   * @param operation the operation of the step
+   * @param <R> the type of the value of the new program
+   * @return new instance of {@link QueProgram}
+   */
+  @Contract("_, _ -> new")
+  private <R> @NotNull QueProgram<I, R> append(final byte kind, final Object operation) {
+    final int length = this.kinds.length;
+    final byte[] kinds = Arrays.copyOf(this.kinds, length + 1);
+    final Object[] operations = Arrays.copyOf(this.operations, length + 1);
+    kinds[length] = kind;
+    operations[length] = operation;
+    return new QueProgram<>(kinds, operations);
+  }
+
+  /**
+   * Records a mapping step.
+   *
+   * @param mapper a mapping function to apply to the value.
+   * @param <R> the type of the mapped value
+   * @return new instance of {@link QueProgram}
+   * @see Que#map(Function)
+   */
+  @Contract("_ -> new")
+  public <R> @NotNull QueProgram<I, R> map(final Function<? super O, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return this.append(QueProgram.MAP, mapper);
+  }
+
+  /**
+   * Records a step consuming the value.
+   *
+   * @param consumer {@link Consumer} type variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andConsume(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andConsume(final Consumer<? super O> consumer) {
+    Objects.requireNonNull(consumer, "consumer cannot be null");
+    return this.append(QueProgram.CONSUME, consumer);
+  }
+
+  /**
+   * Records a step accepting the value. Use when operation will/may throw an {@link Exception}.
+   *
+   * @param accepter {@link Accepter} type variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andAccept(Accepter)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andAccept(final Accepter<? super O> accepter) {
+    Objects.requireNonNull(accepter, "accepter cannot be null");
+    return this.append(QueProgram.ACCEPT, accepter);
+  }
+
+  /**
+   * Records a step running a {@link Runnable}.
+   *
+   * @param runnable {@link Runnable} type variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andRun(Runnable)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andRun(final Runnable runnable) {
+    Objects.requireNonNull(runnable, "runnable cannot be null");
+    return this.append(QueProgram.RUN, runnable);
+  }
+
+  /**
+   * Records a step executing an {@link Executable}. Use when operation will throw an exception.
+   *
+   * @param executable {@link Executable} type variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andExecute(Executable)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andExecute(final Executable executable) {
+    Objects.requireNonNull(executable, "executable cannot be null");
+    return this.append(QueProgram.EXECUTE, executable);
+  }
+
+  /**
+   * Records a step replacing the value with the supplied one.
+   *
+   * @param supplier {@link Supplier} variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andSupply(Supplier)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andSupply(final Supplier<? extends O> supplier) {
+    Objects.requireNonNull(supplier, "supplier cannot be null");
+    return this.append(QueProgram.SUPPLY, supplier);
+  }
+
+  /**
+   * Records a step replacing the value with the dealt one. Use this method in place of {@link
+   * QueProgram#andSupply(Supplier)} if operation will throw an {@link Exception}.
+   *
+   * @param dealer {@link Dealer} variable
+   * @return new instance of {@link QueProgram}
+   * @see Que#andDeal(Dealer)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andDeal(final Dealer<? extends O> dealer) {
+    Objects.requireNonNull(dealer, "dealer cannot be null");
+    return this.append(QueProgram.DEAL, dealer);
+  }
+
+  /**
+   * Records a step replacing the value with the result of a {@link Callable}.
+   *
+   * @param callable {@link Callable} type variable.
+   * @return new instance of {@link QueProgram}
+   * @see Que#andCall(Callable)
+   */
+  @Contract("_ -> new")
+  public @NotNull QueProgram<I, O> andCall(final Callable<? extends O> callable) {
+    Objects.requireNonNull(callable, "callable cannot be null");
+    return this.append(QueProgram.CALL, callable);
+  }
+
+  /**
+   * Runs every step of the program on the given input.
+   *
+   * @param input the input to the program
+   * @return the value after the last step
+   * @throws Exception instance of any exception thrown by a step
+   */
+  @SuppressWarnings("unchecked")
+  public O run(final I input) throws Exception {
+    final byte[] kinds = this.kinds;
+    final Object[] operations = this.operations;
+    Object current = input;
+    for (int i = 0; i < kinds.length; i++) {
+      switch (kinds[i]) {
+        case MAP:
+          current = ((Function<Object, Object>) operations[i]).apply(current);
+          break;
+        case CONSUME:
+          ((Consumer<Object>) operations[i]).accept(current);
+          break;
+        case ACCEPT:
+          ((Accepter<Object>) operations[i]).accept(current);
+          break;
+        case RUN:
+          ((Runnable) operations[i]).run();
+          break;
+        case EXECUTE:
+          ((Executable) operations[i]).execute();
+          break;
+        case SUPPLY:
+          current = ((Supplier<?>) operations[i]).get();
+          break;
+        case DEAL:
+          current = ((Dealer<?>) operations[i]).deal();
+          break;
+        default:
+          current = ((Callable<?>) operations[i]).call();
+          break;
+      }
+    }
+    return (O) current;
+  }
+
+  /**
+   * Runs every step of the program on the given input, describing the outcome as a {@link Try}.
+   *
+   * @param input the input to the program
+   * @return a successful {@link Try} with the value after the last step, otherwise a failed {@link
+   *     Try} with the exception thrown.
+   */
+  public @NotNull Try<O> attempt(final I input) {
+    try {
+      return Try.success(this.run(input));
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+  }
+
+  /**
+   * Use to get the number of steps in the program.
+   *
+   * @return the number of steps
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.kinds.length;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "QueProgram{" + "steps=" + this.kinds.length + '}';
+  }
+}
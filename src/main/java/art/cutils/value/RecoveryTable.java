@@ -0,0 +1,194 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.ThrowingFunction;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link RecoveryTable} maps exception types to the handlers recovering a failed {@link Try},
+ * like a chain of {@link Try#recover(Class, ThrowingFunction)} calls built once and reused.
+ *
+ * <p>Handlers are matched in the order they were added, the first whose type the cause is an
+ * instance of is applied. The matching handler is resolved once per exception class and cached
+ * through a {@link ClassValue}, so recovering costs a single lookup however many handlers there
+ * are.
+ *
+ * <pre>{@code
+ * RecoveryTable<Response> fallbacks =
+ *     RecoveryTable.<Response>init()
+ *         .on(TimeoutException.class, cause -> Response.GATEWAY_TIMEOUT)
+ *         .on(IOException.class, cause -> Response.BAD_GATEWAY);
+ *
+ * Response response = Try.of(() -> call(request)).recover(fallbacks).get();
+ * }</pre>
+ *
+ * <p>A table is immutable, adding a handler returns a new table, so it can be shared between
+ * threads.
+ *
+ * @param <T> the type of the recovered result
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class RecoveryTable<T> {
+
+  /** The table without handlers. */
+  private static final RecoveryTable<?> EMPTY =
+      new RecoveryTable<>(new Class<?>[0], new ThrowingFunction<?, ?>[0]);
+
+  /** Marks an exception class without a matching handler. */
+  private static final ThrowingFunction<Throwable, Object> NONE = cause -> null;
+
+  /** The exception type of each handler, in order. */
+  private final Class<?>[] types;
+
+  /** The handlers, in order. */
+  private final ThrowingFunction<?, ?>[] handlers;
+
+  /** Resolves the handler of an exception class once. */
+  private final ClassValue<ThrowingFunction<?, ?>> resolved =
+      new ClassValue<ThrowingFunction<?, ?>>() {
+        @Override
+        protected ThrowingFunction<?, ?> computeValue(final Class<?> type) {
+          for (int i = 0; i < RecoveryTable.this.types.length; i++) {
+            if (RecoveryTable.this.types[i].isAssignableFrom(type)) {
+              return RecoveryTable.this.handlers[i];
+            }
+          }
+          return RecoveryTable.NONE;
+        }
+      };
+
+  /**
+   * Constructs a table with the given handlers.
+   *
+   * @param types the exception type of each handler
+   * @param handlers the handlers
+   */
+  @Contract(pure = true)
+  private RecoveryTable(final Class<?>[] types, final ThrowingFunction<?, ?>[] handlers) {
+    this.types = types;
+    this.handlers = handlers;
+  }
+
+  /**
+   * Creates a table without handlers, it recovers nothing.
+   *
+   * @param <T> the type of the recovered result
+   * @return the table without handlers
+   */
+  @SuppressWarnings("unchecked")
+  @Contract(pure = true)
+  public static <T> @NotNull RecoveryTable<T> init() {
+    return (RecoveryTable<T>) RecoveryTable.EMPTY;
+  }
+
+  /**
+   * Creates a new table with a handler for the given exception type appended.
+   *
+   * @param type the exception type, subtypes are also handled
+   * @param handler the function supplying a result from the cause
+   * @param <X> the exception type
+   * @return new instance of {@link RecoveryTable}
+   */
+  @Contract("_, _ -> new")
+  public <X extends Throwable> @NotNull RecoveryTable<T> on(
+      final Class<X> type, final ThrowingFunction<? super X, ? extends T> handler) {
+    Objects.requireNonNull(type, "type cannot be null");
+    Objects.requireNonNull(handler, "handler cannot be null");
+    final int length = this.types.length;
+    final Class<?>[] types = Arrays.copyOf(this.types, length + 1);
+    final ThrowingFunction<?, ?>[] handlers = Arrays.copyOf(this.handlers, length + 1);
+    types[length] = type;
+    handlers[length] = handler;
+    return new RecoveryTable<>(types, handlers);
+  }
+
+  /**
+   * Use to check whether a cause of the given class is handled by this table.
+   *
+   * @param type the exception class
+   * @return {@code true} if a handler matches {@code type}, else {@code false}
+   */
+  public boolean handles(final @NotNull Class<? extends Throwable> type) {
+    return this.resolved.get(type) != RecoveryTable.NONE;
+  }
+
+  /**
+   * Retrieve the handler matching the class of the given cause.
+   *
+   * @param cause the cause of failure
+   * @return the matching handler, {@code null} if there is none
+   */
+  @SuppressWarnings("unchecked")
+  private @Nullable ThrowingFunction<Throwable, ? extends T> handlerOf(final Throwable cause) {
+    final ThrowingFunction<?, ?> handler = this.resolved.get(cause.getClass());
+    return handler == RecoveryTable.NONE
+        ? null
+        : (ThrowingFunction<Throwable, ? extends T>) handler;
+  }
+
+  /**
+   * If the given {@link Try} failed with a handled cause, apply the matching handler to the cause.
+   *
+   * @param outcome the outcome to recover
+   * @return a {@link Try} of the result of the matching handler, otherwise {@code outcome}
+   */
+  public @NotNull Try<T> recover(final @NotNull Try<T> outcome) {
+    Objects.requireNonNull(outcome, "outcome cannot be null");
+    if (outcome.isSuccess() || Objects.isNull(outcome.getCause())) {
+      return outcome;
+    }
+    final Throwable cause = outcome.getCause();
+    final ThrowingFunction<Throwable, ? extends T> handler = this.handlerOf(cause);
+    if (Objects.isNull(handler)) {
+      return outcome;
+    }
+    try {
+      return Try.success(handler.apply(cause));
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+  }
+
+  /**
+   * Use to get the number of handlers in the table.
+   *
+   * @return the number of handlers
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.types.length;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "RecoveryTable{" + "types=" + Arrays.toString(this.types) + '}';
+  }
+}
@@ -0,0 +1,455 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link RetryPolicy} describes how {@link Try#retry(Dealer, RetryPolicy)} and {@link
+ * Try#retryAsync(Dealer, RetryPolicy, Executor)} retry a failed operation: the backoff between
+ * attempts, the maximum number of attempts, an optional deadline and which failures are worth
+ * retrying.
+ *
+ * <pre>{@code
+ * RetryPolicy policy =
+ *     RetryPolicy.exponential(50, 2_000, TimeUnit.MILLISECONDS)
+ *         .maxAttempts(5)
+ *         .deadline(5, TimeUnit.SECONDS)
+ *         .retryOn(IOException.class);
+ * }</pre>
+ *
+ * <p>A policy is immutable, every configuration method returns a new policy, so it can be shared.
+ * By default a policy makes at most 3 attempts, has no deadline and retries every failure.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class RetryPolicy {
+
+  /** The backoff strategy between attempts. */
+  private final Backoff backoff;
+
+  /** The base delay between attempts, in nanoseconds. */
+  private final long baseNanos;
+
+  /** The maximum delay between attempts, in nanoseconds. */
+  private final long maxNanos;
+
+  /** The maximum number of attempts, including the first one. */
+  private final int maxAttempts;
+
+  /** The maximum time spent on all attempts, in nanoseconds, or {@code 0} for none. */
+  private final long deadlineNanos;
+
+  /** The failures worth retrying. */
+  private final Predicate<? super Throwable> retryable;
+
+  /**
+   * Constructs a policy.
+   *
+   * @param backoff the backoff strategy between attempts
+   * @param baseNanos the base delay between attempts, in nanoseconds
+   * @param maxNanos the maximum delay between attempts, in nanoseconds
+   * @param maxAttempts the maximum number of attempts
+   * @param deadlineNanos the maximum time spent on all attempts, in nanoseconds
+   * @param retryable the failures worth retrying
+   */
+  @Contract(pure = true)
+  private RetryPolicy(
+      final Backoff backoff,
+      final long baseNanos,
+      final long maxNanos,
+      final int maxAttempts,
+      final long deadlineNanos,
+      final Predicate<? super Throwable> retryable) {
+    this.backoff = backoff;
+    this.baseNanos = baseNanos;
+    this.maxNanos = maxNanos;
+    this.maxAttempts = maxAttempts;
+    this.deadlineNanos = deadlineNanos;
+    this.retryable = retryable;
+  }
+
+  /**
+   * Creates a policy waiting the same delay between attempts.
+   *
+   * @param delay the delay between attempts
+   * @param unit the time unit of the delay argument
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull RetryPolicy fixed(final long delay, final TimeUnit unit) {
+    return RetryPolicy.create(Backoff.FIXED, delay, delay, unit);
+  }
+
+  /**
+   * Creates a policy doubling the delay after each attempt, up to {@code maxDelay}.
+   *
+   * @param initialDelay the delay after the first attempt
+   * @param maxDelay the maximum delay between attempts
+   * @param unit the time unit of the delay arguments
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_, _, _ -> new")
+  public static @NotNull RetryPolicy exponential(
+      final long initialDelay, final long maxDelay, final TimeUnit unit) {
+    return RetryPolicy.create(Backoff.EXPONENTIAL, initialDelay, maxDelay, unit);
+  }
+
+  /**
+   * Creates a policy with decorrelated jitter: each delay is random, between {@code baseDelay} and
+   * three times the previous delay, up to {@code maxDelay}. This spreads the retries of many
+   * callers failing at the same time.
+   *
+   * @param baseDelay the minimum delay between attempts
+   * @param maxDelay the maximum delay between attempts
+   * @param unit the time unit of the delay arguments
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_, _, _ -> new")
+  public static @NotNull RetryPolicy jitter(
+      final long baseDelay, final long maxDelay, final TimeUnit unit) {
+    return RetryPolicy.create(Backoff.DECORRELATED_JITTER, baseDelay, maxDelay, unit);
+  }
+
+  /**
+   * Creates a policy with the default attempts, deadline and retryable failures.
+   *
+   * @param backoff the backoff strategy between attempts
+   * @param baseDelay the base delay between attempts
+   * @param maxDelay the maximum delay between attempts
+   * @param unit the time unit of the delay arguments
+   * @return new instance of {@link RetryPolicy}
+   */
+  private static @NotNull RetryPolicy create(
+      final Backoff backoff, final long baseDelay, final long maxDelay, final TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    if (baseDelay < 0 || maxDelay < baseDelay) {
+      throw new IllegalArgumentException("Delays must satisfy 0 <= baseDelay <= maxDelay.");
+    }
+    return new RetryPolicy(
+        backoff, unit.toNanos(baseDelay), unit.toNanos(maxDelay), 3, 0L, cause -> true);
+  }
+
+  /**
+   * Use to set the maximum number of attempts, including the first one.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_ -> new")
+  public @NotNull RetryPolicy maxAttempts(final int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1.");
+    }
+    return new RetryPolicy(
+        this.backoff,
+        this.baseNanos,
+        this.maxNanos,
+        maxAttempts,
+        this.deadlineNanos,
+        this.retryable);
+  }
+
+  /**
+   * Use to set the maximum time spent on all attempts, counted from the first attempt. No attempt
+   * is started if it cannot begin before the deadline.
+   *
+   * @param deadline the maximum time spent on all attempts
+   * @param unit the time unit of the deadline argument
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_, _ -> new")
+  public @NotNull RetryPolicy deadline(final long deadline, final TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    if (deadline <= 0) {
+      throw new IllegalArgumentException("deadline must be positive.");
+    }
+    return new RetryPolicy(
+        this.backoff,
+        this.baseNanos,
+        this.maxNanos,
+        this.maxAttempts,
+        unit.toNanos(deadline),
+        this.retryable);
+  }
+
+  /**
+   * Use to retry only failures caused by one of the given exception types, or their subtypes.
+   *
+   * @param types the exception types worth retrying
+   * @return new instance of {@link RetryPolicy}
+   */
+  @SafeVarargs
+  @Contract("_ -> new")
+  public final @NotNull RetryPolicy retryOn(final Class<? extends Throwable>... types) {
+    Objects.requireNonNull(types, "types cannot be null");
+    final List<Class<? extends Throwable>> retryableTypes = new ArrayList<>(types.length);
+    for (final Class<? extends Throwable> type : types) {
+      retryableTypes.add(Objects.requireNonNull(type, "type cannot be null"));
+    }
+    return this.retryIf(
+        cause -> {
+          for (final Class<? extends Throwable> type : retryableTypes) {
+            if (type.isInstance(cause)) {
+              return true;
+            }
+          }
+          return false;
+        });
+  }
+
+  /**
+   * Use to retry only failures matching the given predicate.
+   *
+   * @param retryable the predicate matching the causes worth retrying
+   * @return new instance of {@link RetryPolicy}
+   */
+  @Contract("_ -> new")
+  public @NotNull RetryPolicy retryIf(final Predicate<? super Throwable> retryable) {
+    Objects.requireNonNull(retryable, "retryable cannot be null");
+    return new RetryPolicy(
+        this.backoff,
+        this.baseNanos,
+        this.maxNanos,
+        this.maxAttempts,
+        this.deadlineNanos,
+        retryable);
+  }
+
+  /**
+   * Computes the delay before the next attempt.
+   *
+   * @param attempt the number of attempts made so far
+   * @param previousNanos the previous delay, in nanoseconds, or {@code 0} after the first attempt
+   * @return the delay, in nanoseconds
+   */
+  long delay(final int attempt, final long previousNanos) {
+    switch (this.backoff) {
+      case EXPONENTIAL:
+        final int shift = Math.min(attempt - 1, 62);
+        final long delay = this.baseNanos << shift;
+        return delay >>> shift != this.baseNanos ? this.maxNanos : Math.min(this.maxNanos, delay);
+      case DECORRELATED_JITTER:
+        final long tripled = previousNanos > this.maxNanos / 3 ? this.maxNanos : previousNanos * 3;
+        final long upper = Math.max(this.baseNanos, tripled);
+        if (upper == this.baseNanos) {
+          return this.baseNanos;
+        }
+        return upper == Long.MAX_VALUE
+            ? ThreadLocalRandom.current().nextLong(this.baseNanos, upper)
+            : ThreadLocalRandom.current().nextLong(this.baseNanos, upper + 1);
+      default:
+        return this.baseNanos;
+    }
+  }
+
+  /**
+   * Decides whether to make another attempt after a failure.
+   *
+   * @param attempt the number of attempts made so far
+   * @param cause the cause of the last failure
+   * @param startNanos the start of the first attempt, see {@link System#nanoTime()}
+   * @param delayNanos the delay before the next attempt, in nanoseconds
+   * @return {@code true} if another attempt should be made, else {@code false}
+   */
+  private boolean shouldRetry(
+      final int attempt, final Throwable cause, final long startNanos, final long delayNanos) {
+    if (attempt >= this.maxAttempts || cause instanceof InterruptedException) {
+      return false;
+    }
+    if (this.deadlineNanos > 0L
+        && System.nanoTime() + delayNanos - startNanos >= this.deadlineNanos) {
+      return false;
+    }
+    return this.retryable.test(cause);
+  }
+
+  /**
+   * Tries the operation, waiting on the calling thread between attempts.
+   *
+   * @param operation the operation that will be tried
+   * @param <T> variable type
+   * @return the outcome of the last attempt
+   */
+  <T> @NotNull Try<T> run(final Dealer<? extends T> operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    final long start = System.nanoTime();
+    long delay = 0L;
+    for (int attempt = 1; ; attempt++) {
+      final Try<T> outcome = Try.of(operation);
+      if (outcome.isSuccess()) {
+        return outcome;
+      }
+      delay = this.delay(attempt, delay);
+      if (!this.shouldRetry(attempt, outcome.getCause(), start, delay)) {
+        return outcome;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return outcome;
+      }
+    }
+  }
+
+  /**
+   * Tries the operation on the given executor. Delays between attempts are scheduled on a shared
+   * scheduler, no thread is held while waiting.
+   *
+   * @param operation the operation that will be tried
+   * @param executor the executor to run each attempt on
+   * @param <T> variable type
+   * @return a {@link TryFuture} of the outcome of the last attempt
+   */
+  <T> @NotNull TryFuture<T> runAsync(
+      final Dealer<? extends T> operation, final Executor executor) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    Objects.requireNonNull(executor, "executor cannot be null");
+    final CompletableFuture<Try<T>> future = new CompletableFuture<>();
+    new Attempt<T>(operation, executor, future, System.nanoTime()).submit(1, 0L, null);
+    return TryFuture.wrap(future);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "RetryPolicy{"
+        + "backoff="
+        + this.backoff
+        + ", baseNanos="
+        + this.baseNanos
+        + ", maxNanos="
+        + this.maxNanos
+        + ", maxAttempts="
+        + this.maxAttempts
+        + ", deadlineNanos="
+        + this.deadlineNanos
+        + '}';
+  }
+
+  /** The backoff strategies between attempts. */
+  private enum Backoff {
+    FIXED,
+    EXPONENTIAL,
+    DECORRELATED_JITTER
+  }
+
+  /**
+   * The state of an asynchronous retry.
+   *
+   * @param <T> variable type
+   */
+  private final class Attempt<T> {
+
+    /** The operation that will be tried. */
+    private final Dealer<? extends T> operation;
+
+    /** The executor to run each attempt on. */
+    private final Executor executor;
+
+    /** The future completed with the outcome of the last attempt. */
+    private final CompletableFuture<Try<T>> future;
+
+    /** The start of the first attempt. */
+    private final long start;
+
+    /**
+     * Constructs the state of an asynchronous retry.
+     *
+     * @param operation the operation that will be tried
+     * @param executor the executor to run each attempt on
+     * @param future the future completed with the outcome of the last attempt
+     * @param start the start of the first attempt
+     */
+    @Contract(pure = true)
+    private Attempt(
+        final Dealer<? extends T> operation,
+        final Executor executor,
+        final CompletableFuture<Try<T>> future,
+        final long start) {
+      this.operation = operation;
+      this.executor = executor;
+      this.future = future;
+      this.start = start;
+    }
+
+    /**
+     * Submits an attempt to the executor. If the executor rejects it, the retry completes with the
+     * outcome of the previous attempt, the rejection suppressed by its cause, or with the rejection
+     * if there was no previous attempt.
+     *
+     * @param attempt the number of the attempt
+     * @param previousDelay the delay before this attempt, in nanoseconds
+     * @param previous the failed outcome of the previous attempt, {@code null} before the first
+     */
+    private void submit(final int attempt, final long previousDelay, final Try<T> previous) {
+      try {
+        this.executor.execute(() -> this.run(attempt, previousDelay));
+      } catch (final RuntimeException e) {
+        if (Objects.isNull(previous)) {
+          this.future.complete(Try.failure(e));
+        } else {
+          previous.getCause().addSuppressed(e);
+          this.future.complete(previous);
+        }
+      }
+    }
+
+    /**
+     * Runs an attempt, scheduling the next one on failure if the policy allows it.
+     *
+     * @param attempt the number of the attempt
+     * @param previousDelay the delay before this attempt, in nanoseconds
+     */
+    private void run(final int attempt, final long previousDelay) {
+      if (this.future.isDone()) {
+        return; // cancelled
+      }
+      final Try<T> outcome = Try.of(this.operation);
+      if (outcome.isSuccess()) {
+        this.future.complete(outcome);
+        return;
+      }
+      final long delay = RetryPolicy.this.delay(attempt, previousDelay);
+      if (!RetryPolicy.this.shouldRetry(attempt, outcome.getCause(), this.start, delay)) {
+        this.future.complete(outcome);
+        return;
+      }
+      Scheduler.get()
+          .schedule(() -> this.submit(attempt + 1, delay, outcome), delay, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Holds the single, process wide {@link ScheduledExecutorService} used to fire timeouts and delays
+ * without parking the thread that requested them. Scheduled actions are expected to be short, i.e.
+ * completing a future; anything heavier must hand off to an executor of its own.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class Scheduler {
+
+  /** Counts the scheduler threads created, used to name them. */
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  /** The shared scheduler, its daemon thread will not keep the JVM alive. */
+  private static final ScheduledExecutorService INSTANCE = Scheduler.create();
+
+  /** Locked for life. */
+  @Contract(pure = true)
+  private Scheduler() {}
+
+  /**
+   * Creates the shared scheduler.
+   *
+   * @return new instance of {@link ScheduledExecutorService}
+   */
+  private static ScheduledExecutorService create() {
+    final ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              final Thread thread =
+                  new Thread(runnable, "cutils-scheduler-" + Scheduler.COUNT.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  /**
+   * Retrieve the shared scheduler.
+   *
+   * @return the shared {@link ScheduledExecutorService}
+   */
+  @Contract(pure = true)
+  static ScheduledExecutorService get() {
+    return Scheduler.INSTANCE;
+  }
+}
@@ -31,15 +31,29 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Syndicate simplifies and represent a specific operation of the Executor Service, InvokeAll. Use
@@ -68,12 +82,18 @@ public final class Syndicate<T> implements AutoCloseable {
    */
   private final ExecutorService es;
 
-  /** This list of task to be executed. */
-  private final Collection<Callable<T>> taskList = new ArrayList<>();
+  /** This list of task to be executed, added to without locking by any number of threads. */
+  private final Collection<Callable<T>> taskList = new ConcurrentLinkedQueue<>();
+
+  /** The maximum number of tasks running at once, {@code 0} if not bounded. */
+  private volatile int maxInFlight;
+
+  /** Whether a task was added with a key. */
+  private volatile boolean keyed;
 
   // Sealed constructor
   private Syndicate() {
-    this.es = Executors.newCachedThreadPool();
+    this.es = VirtualThreads.isAvailable() ? VirtualThreads.newExecutor() : Pools.shared();
   }
 
   // Sealed constructor
@@ -95,8 +115,9 @@ public final class Syndicate<T> implements AutoCloseable {
   }
 
   /**
-   * Creates a new instance of {@link Syndicate} with default {@link
-   * Executors#newCachedThreadPool()}
+   * Creates a new instance of {@link Syndicate} starting a new virtual thread for each task on Java
+   * 21 or newer, otherwise running its tasks on the warm threads of the {@link Pools#shared()}
+   * pool. Closing the {@link Syndicate} releases the pool rather than stopping its threads.
    *
    * @param <T> the type of the values from the tasks
    * @return new instance of {@link Syndicate}
@@ -107,7 +128,42 @@ public final class Syndicate<T> implements AutoCloseable {
   }
 
   /**
-   * Use to add a task of Callable type
+   * Creates a new instance of {@link Syndicate} running its tasks on the named pool of {@code size}
+   * threads, shared with every other {@link Syndicate} using it. The pool is created by its first
+   * user and shut down when its last user is closed.
+   *
+   * @param pool the name of the pool
+   * @param size the number of threads of the pool
+   * @param <T> the type of the values from the tasks
+   * @return new instance of {@link Syndicate}
+   * @throws IllegalArgumentException if {@code size} is less than {@code 1}, or the pool exists
+   *     with another size
+   * @see Pools#lease(String, int)
+   * @since v2.8
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull Syndicate<T> init(final @NotNull String pool, final int size) {
+    return new Syndicate<>(Pools.lease(pool, size));
+  }
+
+  /**
+   * Creates a new instance of {@link Syndicate} starting a new virtual thread for each task. Use
+   * for I/O bound tasks, where thousands of blocking tasks would otherwise need as many platform
+   * threads.
+   *
+   * @param <T> the type of the values from the tasks
+   * @return new instance of {@link Syndicate}
+   * @throws UnsupportedOperationException if the runtime is older than Java 21
+   * @since v2.8
+   */
+  @Contract(" -> new")
+  public static <T> @NotNull Syndicate<T> initVirtual() {
+    return new Syndicate<>(VirtualThreads.newExecutor());
+  }
+
+  /**
+   * Use to add a task of Callable type. Tasks can be added concurrently by any number of threads,
+   * an execution runs the tasks added before it started.
    *
    * @param callableTask instance of a {@link Callable}, the task to be executed as part of the
    *     {@link Syndicate}
@@ -115,10 +171,209 @@ public final class Syndicate<T> implements AutoCloseable {
    */
   @Contract("_ -> this")
   public Syndicate<T> add(final Callable<T> callableTask) {
+    Objects.requireNonNull(callableTask, "callableTask cannot be null");
     this.taskList.add(callableTask);
     return this;
   }
 
+  /**
+   * Use to add a task of Callable type with a time limit of its own. Once the task has run for
+   * longer than {@code timeout}, the thread running it is interrupted and its outcome is a failed
+   * {@link Try} with a {@link TimeoutException}, while the other tasks carry on.
+   *
+   * @param callableTask instance of a {@link Callable}, the task to be executed as part of the
+   *     {@link Syndicate}
+   * @param timeout the maximum time the task may run
+   * @param unit the time unit of the timeout argument
+   * @return existing instance of {@link Syndicate}
+   * @throws IllegalArgumentException if {@code timeout} is not positive
+   * @see Conductor#results()
+   * @since v2.8
+   */
+  @Contract("_, _, _ -> this")
+  public Syndicate<T> add(final Callable<T> callableTask, final long timeout, final TimeUnit unit) {
+    Objects.requireNonNull(callableTask, "callableTask cannot be null");
+    Objects.requireNonNull(unit, "unit cannot be null");
+    if (timeout <= 0L) {
+      throw new IllegalArgumentException("timeout must be positive.");
+    }
+    this.taskList.add(new TimedTask<>(callableTask, timeout, unit));
+    return this;
+  }
+
+  /**
+   * Use to add a task of Callable type with an ordering key. Tasks sharing a key run one at a time,
+   * in the order they were added, while tasks with different keys, or without a key, run in
+   * parallel.
+   *
+   * <pre>{@code
+   * events.forEach(event -> syndicate.add(event.getAccountId(), () -> apply(event)));
+   * }</pre>
+   *
+   * @param key the ordering key of the task
+   * @param callableTask instance of a {@link Callable}, the task to be executed as part of the
+   *     {@link Syndicate}
+   * @return existing instance of {@link Syndicate}
+   * @since v2.8
+   */
+  @Contract("_, _ -> this")
+  public Syndicate<T> add(final @NotNull Object key, final Callable<T> callableTask) {
+    Objects.requireNonNull(key, "key cannot be null");
+    Objects.requireNonNull(callableTask, "callableTask cannot be null");
+    this.keyed = true;
+    this.taskList.add(new KeyedExecutor.KeyedTask<>(key, callableTask));
+    return this;
+  }
+
+  /**
+   * Removes every task added, to reuse the {@link Syndicate} and its {@link ExecutorService} for
+   * another batch of tasks.
+   *
+   * @return existing instance of {@link Syndicate}
+   * @since v2.8
+   */
+  @Contract(" -> this")
+  public Syndicate<T> reset() {
+    this.taskList.clear();
+    this.keyed = false;
+    return this;
+  }
+
+  /**
+   * Executes the given tasks, rather than the tasks added, on the {@link ExecutorService} of this
+   * {@link Syndicate}, and returns a list of Futures holding their status and results when all
+   * complete.
+   *
+   * @param tasks the tasks to execute
+   * @return the {@link Try} list of Futures holding the status of the tasks, in the order of
+   *     {@code tasks}
+   * @since v2.8
+   */
+  public @NotNull Try<List<Future<T>>> execute(
+      final @NotNull Collection<? extends Callable<T>> tasks) {
+    Objects.requireNonNull(tasks, "tasks cannot be null");
+    return Try.of(() -> this.invokeAll(new ArrayList<>(tasks), 0L, null));
+  }
+
+  /**
+   * Use to get the tasks of an execution: the tasks added so far.
+   *
+   * @return a snapshot of the tasks added
+   */
+  private @NotNull List<Callable<T>> tasks() {
+    return new ArrayList<>(this.taskList);
+  }
+
+  /**
+   * Use to limit the number of tasks running at once. Tasks beyond the limit wait, without holding
+   * a thread, until a running task completes, so the number of threads stays flat however many
+   * tasks are added.
+   *
+   * @param maxInFlight the maximum number of tasks running at once
+   * @return existing instance of {@link Syndicate}
+   * @throws IllegalArgumentException if {@code maxInFlight} is less than {@code 1}
+   * @since v2.8
+   */
+  @Contract("_ -> this")
+  public Syndicate<T> maxInFlight(final int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be at least 1.");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Use to get the executor running the tasks of an execution, bounded to {@link
+   * Syndicate#maxInFlight} tasks at once if set, and ordering the tasks sharing a key.
+   *
+   * @return the executor running the tasks
+   */
+  private @NotNull Executor executor() {
+    final Executor executor =
+        this.maxInFlight > 0 ? new BoundedExecutor(this.es, this.maxInFlight) : this.es;
+    return this.keyed ? new KeyedExecutor(executor) : executor;
+  }
+
+  /**
+   * Executes the given tasks, returning their futures when all complete or the timeout elapses,
+   * whichever happens first. Tasks not complete on timeout are cancelled.
+   *
+   * @param tasks the tasks
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}, not bounded if {@code null}
+   * @return the futures of the tasks, in submission order
+   * @throws InterruptedException if interrupted while waiting, the tasks not complete are
+   *     cancelled
+   */
+  private @NotNull List<Future<T>> invokeAll(
+      final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    if (this.maxInFlight > 0 || this.keyed) {
+      return Syndicate.invokeAll(this.executor(), tasks, timeout, unit);
+    } else if (timeout > 0L && Objects.nonNull(unit)) {
+      return this.es.invokeAll(tasks, timeout, unit);
+    } else {
+      return this.es.invokeAll(tasks);
+    }
+  }
+
+  /**
+   * Executes the given tasks on the given executor, returning their futures when all complete or
+   * the timeout elapses, whichever happens first. Tasks not complete on timeout are cancelled.
+   *
+   * @param executor the executor running the tasks
+   * @param tasks the tasks
+   * @param timeout the maximum time to wait, not bounded if not positive
+   * @param unit the unit of {@code timeout}, not bounded if {@code null}
+   * @param <T> the type of the values from the tasks
+   * @return the futures of the tasks, in submission order
+   * @throws InterruptedException if interrupted while waiting, the tasks not complete are
+   *     cancelled
+   * @see ExecutorService#invokeAll(Collection, long, TimeUnit)
+   */
+  private static <T> @NotNull List<Future<T>> invokeAll(
+      final Executor executor,
+      final Collection<? extends Callable<T>> tasks,
+      final long timeout,
+      final TimeUnit unit)
+      throws InterruptedException {
+    final List<Future<T>> futures = new ArrayList<>(tasks.size());
+    boolean done = false;
+    try {
+      for (final Callable<T> task : tasks) {
+        final FutureTask<T> future = new KeyedExecutor.KeyedFuture<>(task);
+        futures.add(future);
+        executor.execute(future);
+      }
+
+      final boolean timed = timeout > 0L && Objects.nonNull(unit);
+      final long deadline = timed ? System.nanoTime() + unit.toNanos(timeout) : 0L;
+      for (final Future<T> future : futures) {
+        if (future.isDone()) {
+          continue;
+        }
+        try {
+          if (timed) {
+            future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          } else {
+            future.get();
+          }
+        } catch (final ExecutionException | CancellationException ignored) {
+          // the outcome is read from the future
+        } catch (final TimeoutException e) {
+          return futures;
+        }
+      }
+      done = true;
+      return futures;
+    } finally {
+      if (!done) {
+        futures.forEach(future -> future.cancel(true));
+      }
+    }
+  }
+
   /**
    * Created the {@link Conductor} to initiate the processing of task in the Syndicate
    *
@@ -178,7 +433,11 @@ public final class Syndicate<T> implements AutoCloseable {
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(this.es).append(this.taskList).toHashCode();
+    return new HashCodeBuilder(17, 37)
+        .append(this.es)
+        .append(this.taskList.toArray())
+        .append(this.maxInFlight)
+        .toHashCode();
   }
 
   @Contract(value = "null -> false", pure = true)
@@ -192,7 +451,8 @@ public final class Syndicate<T> implements AutoCloseable {
       final Syndicate<?> syndicate = (Syndicate<?>) o;
       return new EqualsBuilder()
           .append(this.es, syndicate.es)
-          .append(this.taskList, syndicate.taskList)
+          .append(this.taskList.toArray(), syndicate.taskList.toArray())
+          .append(this.maxInFlight, syndicate.maxInFlight)
           .isEquals();
     }
     return false;
@@ -205,6 +465,8 @@ public final class Syndicate<T> implements AutoCloseable {
         + this.es
         + ", callableTaskList="
         + this.taskList
+        + ", maxInFlight="
+        + this.maxInFlight
         + '}';
   }
 
@@ -272,18 +534,287 @@ public final class Syndicate<T> implements AutoCloseable {
     public @NotNull Conductor<T> execute() {
       this.tryFutureList =
           Try.of(
-              () -> {
-                if (this.timeout > 0L && Objects.nonNull(this.unit)) {
-                  return this.syndicate.es.invokeAll(
-                      this.syndicate.taskList, this.timeout, this.unit);
-                } else {
-                  return this.syndicate.es.invokeAll(this.syndicate.taskList);
-                }
-              });
+              () -> this.syndicate.invokeAll(this.syndicate.tasks(), this.timeout, this.unit));
 
       return this;
     }
 
+    /**
+     * Executes the given tasks and passes the outcome of each to the {@link Consumer} as soon as
+     * the task completes, in completion order. A slow task therefore does not hold back the
+     * outcome of the tasks completed before it.
+     *
+     * <p>If a timeout was given, the tasks not complete when it elapses are cancelled and their
+     * outcome is a failed {@link Try} with a {@link java.util.concurrent.CancellationException}.
+     *
+     * @param consumer the consumer to accept the outcome of each task
+     * @return new instance of {@link Close}
+     * @since v2.8
+     */
+    @Contract("_ -> new")
+    public @NotNull Close<T> onEach(final @NotNull Consumer<? super Try<T>> consumer) {
+      Objects.requireNonNull(consumer, "consumer cannot be null");
+      this.completions(this.syndicate.tasks()).forEachRemaining(consumer);
+      return new Close<>(this);
+    }
+
+    /**
+     * Executes the given tasks and streams the outcome of each as soon as the task completes, in
+     * completion order. The returned {@link Stream} is lazy, it waits for the next task to
+     * complete as it is consumed; closing it cancels the tasks not yet complete.
+     *
+     * @return a sequential {@link Stream} of the outcome of each task
+     * @see Conductor#onEach(Consumer)
+     * @since v2.8
+     */
+    public @NotNull Stream<Try<T>> stream() {
+      final Completions<T> completions = this.completions(this.syndicate.tasks());
+      return StreamSupport.stream(
+              Spliterators.spliteratorUnknownSize(
+                  completions, Spliterator.ORDERED | Spliterator.NONNULL),
+              false)
+          .onClose(completions::cancel);
+    }
+
+    /**
+     * Executes the given tasks and returns the outcome of the first to succeed, cancelling the
+     * others as soon as it does.
+     *
+     * @return a successful {@link Try} of the value from the first task to succeed, otherwise a
+     *     failed {@link Try} with the failure of the first task to fail, the failures of the others
+     *     suppressed.
+     * @throws IllegalArgumentException if no task was added
+     * @see Conductor#race(int)
+     * @since v2.8
+     */
+    public @NotNull Try<T> race() {
+      return this.race(1).map(values -> values.get(0));
+    }
+
+    /**
+     * Executes the given tasks and returns the values from the first {@code successes} to succeed,
+     * in completion order, cancelling the others as soon as they do. The race fails as soon as too
+     * many tasks failed for {@code successes} to be reached.
+     *
+     * <p>If a timeout was given, the tasks not complete when it elapses are cancelled and counted
+     * as failed with a {@link java.util.concurrent.CancellationException}.
+     *
+     * <pre>{@code
+     * Try<List<Row>> quorum =
+     *     Syndicate.<Row>init(executor)
+     *         .add(() -> replicaA.read(key))
+     *         .add(() -> replicaB.read(key))
+     *         .add(() -> replicaC.read(key))
+     *         .apply(50, TimeUnit.MILLISECONDS)
+     *         .race(2);
+     * }</pre>
+     *
+     * @param successes the number of tasks required to succeed
+     * @return a successful {@link Try} of the values from the first tasks to succeed, otherwise a
+     *     failed {@link Try} with the failure of the first task to fail, the failures of the others
+     *     suppressed.
+     * @throws IllegalArgumentException if {@code successes} is not between {@code 1} and the number
+     *     of tasks
+     * @since v2.8
+     */
+    public @NotNull Try<List<T>> race(final int successes) {
+      final List<Callable<T>> tasks = this.syndicate.tasks();
+      final int size = tasks.size();
+      if (successes < 1 || successes > size) {
+        throw new IllegalArgumentException(
+            "successes must be between 1 and the number of tasks: " + size);
+      }
+
+      final Completions<T> completions = this.completions(tasks);
+      final List<T> values = new ArrayList<>(successes);
+      Throwable failure = null;
+      int failures = 0;
+      try {
+        while (completions.hasNext()) {
+          final Try<T> outcome = completions.next();
+          if (outcome.isSuccess()) {
+            values.add(outcome.get());
+            if (values.size() == successes) {
+              return Try.success(Collections.unmodifiableList(values));
+            }
+          } else {
+            if (Objects.isNull(failure)) {
+              failure = outcome.getCause();
+            } else if (failure != outcome.getCause()) {
+              failure.addSuppressed(outcome.getCause());
+            }
+            if (++failures > size - successes) {
+              return Try.failure(failure);
+            }
+          }
+        }
+      } finally {
+        completions.cancel();
+      }
+      return Try.failure(failure);
+    }
+
+    /**
+     * Submits the given tasks, to iterate over their outcome in completion order.
+     *
+     * @param tasks the tasks
+     * @return new instance of {@link Completions}
+     */
+    private @NotNull Completions<T> completions(final Collection<Callable<T>> tasks) {
+      return Completions.start(this.syndicate.executor(), tasks, this.timeout, this.unit);
+    }
+
+    /**
+     * Executes the given tasks as a scope that shuts down on failure: as soon as a task fails, the
+     * others are cancelled, interrupting the running ones, and no more work is wasted on a result
+     * that can no longer succeed. This is the {@code StructuredTaskScope.ShutdownOnFailure} policy,
+     * available from Java 8.
+     *
+     * @return a successful {@link Try} of the values from every task, in submission order,
+     *     otherwise a failed {@link Try} with the failure of the first task to fail.
+     * @see Conductor#shutdownOnSuccess()
+     * @since v2.8
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Try<List<T>> shutdownOnFailure() {
+      final List<Callable<T>> tasks = this.syndicate.tasks();
+      final Completions<T> completions = this.completions(tasks);
+      final Object[] values = new Object[tasks.size()];
+      try {
+        while (completions.hasNext()) {
+          final Try<T> outcome = completions.next();
+          if (outcome.isFailure()) {
+            return Try.failure(outcome.getCause());
+          }
+          values[completions.index()] = outcome.get();
+        }
+      } finally {
+        completions.cancel();
+      }
+      return Try.success(Collections.unmodifiableList((List<T>) Arrays.asList(values)));
+    }
+
+    /**
+     * Executes the given tasks as a scope that shuts down on success: as soon as a task succeeds,
+     * the others are cancelled, interrupting the running ones. This is the {@code
+     * StructuredTaskScope.ShutdownOnSuccess} policy, available from Java 8.
+     *
+     * @return a successful {@link Try} of the value from the first task to succeed, otherwise a
+     *     failed {@link Try} with the failure of the first task to fail, the failures of the others
+     *     suppressed.
+     * @throws IllegalArgumentException if no task was added
+     * @see Conductor#race()
+     * @since v2.8
+     */
+    public @NotNull Try<T> shutdownOnSuccess() {
+      return this.race();
+    }
+
+    /**
+     * Executes the given tasks and folds their values, in completion order, as each task
+     * completes. Only the accumulated value is held, not the value of every task. The fold stops
+     * at the first failed task, cancelling the others.
+     *
+     * <pre>{@code
+     * Try<Long> total =
+     *     syndicate
+     *         .apply()
+     *         .reduce(0L, (sum, partial) -> sum + partial.getCount());
+     * }</pre>
+     *
+     * @param identity the initial value of the fold
+     * @param accumulator folds the value of a task into the accumulated value
+     * @param <U> the type of the accumulated value
+     * @return a successful {@link Try} of the accumulated value, otherwise a failed {@link Try}
+     *     with the failure of the first task to fail.
+     * @since v2.8
+     */
+    public <U> @NotNull Try<U> reduce(
+        final U identity, final BiFunction<U, ? super T, U> accumulator) {
+      Objects.requireNonNull(accumulator, "accumulator cannot be null");
+      final Completions<T> completions = this.completions(this.syndicate.tasks());
+      U accumulated = identity;
+      try {
+        while (completions.hasNext()) {
+          final Try<T> outcome = completions.next();
+          if (outcome.isFailure()) {
+            return Try.failure(outcome.getCause());
+          }
+          accumulated = accumulator.apply(accumulated, outcome.get());
+        }
+      } catch (final RuntimeException e) {
+        return Try.failure(e);
+      } finally {
+        completions.cancel();
+      }
+      return Try.success(accumulated);
+    }
+
+    /**
+     * Executes the given tasks and collects their values, in completion order, as each task
+     * completes. Only the result container is held, not the value of every task. Collecting
+     * stops at the first failed task, cancelling the others.
+     *
+     * <pre>{@code
+     * Try<Map<String, Long>> counts =
+     *     syndicate
+     *         .apply()
+     *         .collect(Collectors.groupingBy(Hit::getShard, Collectors.counting()));
+     * }</pre>
+     *
+     * @param collector the {@link Collector} describing the reduction
+     * @param <A> the intermediate accumulation type of the {@link Collector}
+     * @param <R> the type of the result of the reduction
+     * @return a successful {@link Try} of the result of the reduction, otherwise a failed {@link
+     *     Try} with the failure of the first task to fail.
+     * @since v2.8
+     */
+    public <A, R> @NotNull Try<R> collect(final Collector<? super T, A, R> collector) {
+      Objects.requireNonNull(collector, "collector cannot be null");
+      final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+      return this.reduce(
+              collector.supplier().get(),
+              (container, value) -> {
+                accumulator.accept(container, value);
+                return container;
+              })
+          .map(container -> collector.finisher().apply(container));
+    }
+
+    /**
+     * Executes the given tasks and returns the outcome of each, in submission order, when all
+     * complete. A task that failed, exceeded its own timeout (see {@link Syndicate#add(Callable,
+     * long, TimeUnit)}) or was cancelled when the timeout of the {@link Conductor} elapsed is
+     * described by a failed {@link Try}, while the outcome of the other tasks is kept.
+     *
+     * <pre>{@code
+     * List<Try<Quote>> quotes =
+     *     Syndicate.<Quote>init()
+     *         .add(() -> sourceA.quote(item), 200, TimeUnit.MILLISECONDS)
+     *         .add(() -> sourceB.quote(item), 200, TimeUnit.MILLISECONDS)
+     *         .apply()
+     *         .results();
+     * }</pre>
+     *
+     * @return the outcome of each task, in submission order
+     * @since v2.8
+     */
+    public @NotNull List<Try<T>> results() {
+      final List<Callable<T>> tasks = this.syndicate.tasks();
+      final List<Future<T>> futures;
+      try {
+        futures = this.syndicate.invokeAll(tasks, this.timeout, this.unit);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Collections.nCopies(tasks.size(), Try.failure(e));
+      }
+      final List<Try<T>> outcomes = new ArrayList<>(futures.size());
+      for (final Future<T> future : futures) {
+        outcomes.add(Completions.outcome(future));
+      }
+      return outcomes;
+    }
+
     /**
      * Get the list of Futures hold the results.
      *
@@ -0,0 +1,144 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Callable} given a time limit of its own: once it has run for longer than its timeout,
+ * the thread running it is interrupted and it fails with a {@link TimeoutException}. The time
+ * limit starts when the task starts running, not when it is submitted.
+ *
+ * @param <T> the type of the value from the task
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class TimedTask<T> implements Callable<T> {
+
+  /** The task is running. */
+  private static final int RUNNING = 0;
+
+  /** The task completed within its timeout. */
+  private static final int DONE = 1;
+
+  /** The timeout elapsed, the running thread is about to be interrupted. */
+  private static final int TIMING_OUT = 2;
+
+  /** The timeout elapsed and the running thread was interrupted. */
+  private static final int TIMED_OUT = 3;
+
+  /** The task. */
+  private final Callable<T> task;
+
+  /** The time limit of the task. */
+  private final long timeout;
+
+  /** The unit of {@link TimedTask#timeout}. */
+  private final TimeUnit unit;
+
+  /**
+   * Constructs a task with the given time limit.
+   *
+   * @param task the task
+   * @param timeout the time limit of the task
+   * @param unit the unit of {@code timeout}
+   */
+  @Contract(pure = true)
+  TimedTask(final Callable<T> task, final long timeout, final TimeUnit unit) {
+    this.task = task;
+    this.timeout = timeout;
+    this.unit = unit;
+  }
+
+  /**
+   * Runs the task, interrupting it once its timeout elapses.
+   *
+   * @return the value from the task
+   * @throws TimeoutException if the task did not complete within its timeout
+   * @throws Exception instance of any exception thrown by the task
+   */
+  @Override
+  public T call() throws Exception {
+    final Thread runner = Thread.currentThread();
+    final AtomicInteger state = new AtomicInteger(TimedTask.RUNNING);
+    final ScheduledFuture<?> timer =
+        Scheduler.get()
+            .schedule(
+                () -> {
+                  if (state.compareAndSet(TimedTask.RUNNING, TimedTask.TIMING_OUT)) {
+                    runner.interrupt();
+                    state.set(TimedTask.TIMED_OUT);
+                  }
+                },
+                this.timeout,
+                this.unit);
+
+    T value = null;
+    Exception failure = null;
+    try {
+      value = this.task.call();
+    } catch (final Exception e) {
+      failure = e;
+    }
+
+    timer.cancel(false);
+    if (state.compareAndSet(TimedTask.RUNNING, TimedTask.DONE)) {
+      if (Objects.nonNull(failure)) {
+        throw failure;
+      }
+      return value;
+    }
+
+    // The interrupt is meant for the task only, wait for it before clearing it.
+    while (state.get() != TimedTask.TIMED_OUT) {
+      Thread.yield();
+    }
+    Thread.interrupted();
+    final TimeoutException timedOut =
+        new TimeoutException("Task timed out after " + this.timeout + " " + this.unit + ".");
+    if (Objects.nonNull(failure)) {
+      timedOut.initCause(failure);
+    }
+    throw timedOut;
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "TimedTask{"
+        + "task="
+        + this.task
+        + ", timeout="
+        + this.timeout
+        + ", unit="
+        + this.unit
+        + '}';
+  }
+}
@@ -0,0 +1,433 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.ThrowingFunction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link Traversal} is the outcome of applying an operation to every element of a collection,
+ * see {@link Try#traverse(Collection, ThrowingFunction)}. Outcomes are partitioned into successes
+ * and failures as they are produced, so the partitions are built in a single pass and every getter
+ * returns them as they are.
+ *
+ * <p>In {@link Mode#FAIL_FAST} mode, the traversal stops at the first failure and elements not yet
+ * processed by then are neither a success nor a failure.
+ *
+ * @param <R> the type of the results.
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class Traversal<R> {
+
+  /** The number of elements traversed. */
+  private final int size;
+
+  /** The results of the successful operations, in the order of their elements. */
+  private final List<R> successes;
+
+  /** The index of the element of each result of {@link Traversal#successes}. */
+  private final int[] successIndices;
+
+  /** The causes of the failed operations, in the order of their elements. */
+  private final List<Throwable> failures;
+
+  /** The index of the element of each cause of {@link Traversal#failures}. */
+  private final int[] failureIndices;
+
+  /**
+   * Constructs a traversal of the given number of elements from its partitioned outcomes.
+   *
+   * @param size the number of elements traversed
+   * @param partition the outcomes of the elements
+   */
+  @SuppressWarnings("unchecked")
+  private Traversal(final int size, final Partition partition) {
+    this.size = size;
+    this.successes =
+        (List<R>)
+            Collections.unmodifiableList(
+                Arrays.asList(partition.successes).subList(0, partition.successCount));
+    this.successIndices = Arrays.copyOf(partition.successIndices, partition.successCount);
+    this.failures =
+        Collections.unmodifiableList(
+            Arrays.asList(partition.failures).subList(0, partition.failureCount));
+    this.failureIndices = Arrays.copyOf(partition.failureIndices, partition.failureCount);
+  }
+
+  /**
+   * Applies the operation to every element of the collection on the calling thread.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal}
+   */
+  @Contract("_, _, _ -> new")
+  static <T, R> @NotNull Traversal<R> of(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation,
+      final Mode mode) {
+    Traversal.requireNonNull(elements, operation, mode);
+    final Partition partition = new Partition();
+    int index = 0;
+    for (final T element : elements) {
+      try {
+        partition.succeeded(index, operation.apply(element));
+      } catch (final Exception e) {
+        partition.failed(index, e);
+        if (mode == Mode.FAIL_FAST) {
+          break;
+        }
+      }
+      index++;
+    }
+    return new Traversal<>(elements.size(), partition);
+  }
+
+  /**
+   * Applies the operation to every element of the collection in parallel on the given executor.
+   * The calling thread waits for the traversal to complete.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param executor the executor to run the operation on
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal}
+   */
+  @Contract("_, _, _, _ -> new")
+  static <T, R> @NotNull Traversal<R> of(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation,
+      final Mode mode,
+      final Executor executor) {
+    Traversal.requireNonNull(elements, operation, mode);
+    Objects.requireNonNull(executor, "executor cannot be null");
+
+    final Object[] items = elements.toArray();
+    final int size = items.length;
+    final AtomicBoolean stop = new AtomicBoolean();
+
+    final int parallelism =
+        executor instanceof ForkJoinPool
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+    final int chunks = Math.max(1, Math.min(size, parallelism * 4));
+    final int chunkSize = (size + chunks - 1) / chunks;
+
+    final List<CompletableFuture<Partition>> futures = new ArrayList<>(chunks);
+    for (int start = 0; start < size; start += chunkSize) {
+      final int from = start;
+      final int to = Math.min(size, start + chunkSize);
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> Traversal.apply(items, from, to, operation, mode, stop), executor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+    final List<Partition> partitions = new ArrayList<>(futures.size());
+    for (final CompletableFuture<Partition> future : futures) {
+      partitions.add(future.join());
+    }
+    return new Traversal<>(size, Partition.concat(partitions));
+  }
+
+  /**
+   * Applies the operation to a range of elements, partitioning their outcomes.
+   *
+   * @param items the elements
+   * @param from the index of the first element of the range, inclusive
+   * @param to the index of the last element of the range, exclusive
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param stop set on failure when failing fast
+   * @return the outcomes of the range
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> @NotNull Partition apply(
+      final Object[] items,
+      final int from,
+      final int to,
+      final ThrowingFunction<? super T, ?> operation,
+      final Mode mode,
+      final AtomicBoolean stop) {
+    final Partition partition = new Partition();
+    for (int i = from; i < to && !stop.get(); i++) {
+      try {
+        partition.succeeded(i, operation.apply((T) items[i]));
+      } catch (final Exception e) {
+        partition.failed(i, e);
+        if (mode == Mode.FAIL_FAST) {
+          stop.set(true);
+        }
+      }
+    }
+    return partition;
+  }
+
+  /**
+   * Checks the arguments of a traversal.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   */
+  private static void requireNonNull(
+      final Collection<?> elements, final ThrowingFunction<?, ?> operation, final Mode mode) {
+    Objects.requireNonNull(elements, "elements cannot be null");
+    Objects.requireNonNull(operation, "operation cannot be null");
+    Objects.requireNonNull(mode, "mode cannot be null");
+  }
+
+  /**
+   * Use to check whether every element was processed successfully.
+   *
+   * @return {@code true} if every element was processed successfully else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isSuccess() {
+    return this.successes.size() == this.size;
+  }
+
+  /**
+   * Use to check whether any element was processed with a failure.
+   *
+   * @return {@code true} if there is at least one failure else {@code false}
+   */
+  @Contract(pure = true)
+  public boolean isFailure() {
+    return !this.failures.isEmpty();
+  }
+
+  /**
+   * Use to get the number of elements traversed.
+   *
+   * @return the number of elements in the collection
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Use to get the results of the successful operations, in the order of their elements.
+   *
+   * @return unmodifiable {@link List} of results
+   */
+  @Contract(pure = true)
+  public @NotNull List<R> getSuccesses() {
+    return this.successes;
+  }
+
+  /**
+   * Use to get the index, in the collection, of the element of each result of {@link
+   * Traversal#getSuccesses()}.
+   *
+   * @return a copy of the indices of successful elements, in order
+   */
+  public int @NotNull [] getSuccessIndices() {
+    return this.successIndices.clone();
+  }
+
+  /**
+   * Use to get the causes of the failed operations, in the order of their elements.
+   *
+   * @return unmodifiable {@link List} of causes
+   */
+  @Contract(pure = true)
+  public @NotNull List<Throwable> getFailures() {
+    return this.failures;
+  }
+
+  /**
+   * Use to get the index, in the collection, of the element of each cause of {@link
+   * Traversal#getFailures()}.
+   *
+   * @return a copy of the indices of failed elements, in order
+   */
+  public int @NotNull [] getFailureIndices() {
+    return this.failureIndices.clone();
+  }
+
+  /**
+   * Use to get all results as a single {@link Try}.
+   *
+   * @return a successful {@link Try} of every result if every element was processed successfully,
+   *     otherwise a failed {@link Try} with the cause of the first failure.
+   */
+  public @NotNull Try<List<R>> toTry() {
+    return this.isFailure() ? Try.failure(this.failures.get(0)) : Try.success(this.successes);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "Traversal{"
+        + "size="
+        + this.size
+        + ", successes="
+        + this.successes.size()
+        + ", failures="
+        + this.failures.size()
+        + '}';
+  }
+
+  /**
+   * The outcomes of a run of elements, partitioned in element order as they are recorded. Each
+   * partition grows on demand, so a run failing on its first element allocates two small arrays.
+   */
+  private static final class Partition {
+
+    /** The initial capacity of a partition. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Shared by the partitions without a success. */
+    private static final Object[] NO_SUCCESSES = {};
+
+    /** Shared by the partitions without a failure. */
+    private static final Throwable[] NO_FAILURES = {};
+
+    /** Shared by the partitions without an index. */
+    private static final int[] NO_INDICES = {};
+
+    /** The results of the successful operations. */
+    private Object[] successes = Partition.NO_SUCCESSES;
+
+    /** The index of the element of each result. */
+    private int[] successIndices = Partition.NO_INDICES;
+
+    /** The number of successes. */
+    private int successCount;
+
+    /** The causes of the failed operations. */
+    private Throwable[] failures = Partition.NO_FAILURES;
+
+    /** The index of the element of each cause. */
+    private int[] failureIndices = Partition.NO_INDICES;
+
+    /** The number of failures. */
+    private int failureCount;
+
+    /**
+     * Concatenates the given partitions, in order.
+     *
+     * @param partitions the partitions of consecutive runs of elements
+     * @return a partition of every element
+     */
+    @Contract("_ -> new")
+    private static @NotNull Partition concat(final List<Partition> partitions) {
+      final Partition all = new Partition();
+      for (final Partition partition : partitions) {
+        all.successCount += partition.successCount;
+        all.failureCount += partition.failureCount;
+      }
+      all.successes = new Object[all.successCount];
+      all.successIndices = new int[all.successCount];
+      all.failures = new Throwable[all.failureCount];
+      all.failureIndices = new int[all.failureCount];
+      int successes = 0;
+      int failures = 0;
+      for (final Partition partition : partitions) {
+        System.arraycopy(
+            partition.successes, 0, all.successes, successes, partition.successCount);
+        System.arraycopy(
+            partition.successIndices, 0, all.successIndices, successes, partition.successCount);
+        System.arraycopy(partition.failures, 0, all.failures, failures, partition.failureCount);
+        System.arraycopy(
+            partition.failureIndices, 0, all.failureIndices, failures, partition.failureCount);
+        successes += partition.successCount;
+        failures += partition.failureCount;
+      }
+      return all;
+    }
+
+    /**
+     * Use to get the capacity to grow an array of the given length to.
+     *
+     * @param length the current length
+     * @return the new length
+     */
+    @Contract(pure = true)
+    private static int grow(final int length) {
+      return Math.max(Partition.INITIAL_CAPACITY, length + (length >> 1));
+    }
+
+    /**
+     * Records a success.
+     *
+     * @param index the index of the element
+     * @param result the result of the operation
+     */
+    @Contract(mutates = "this")
+    private void succeeded(final int index, final Object result) {
+      if (this.successCount == this.successes.length) {
+        final int capacity = Partition.grow(this.successCount);
+        this.successes = Arrays.copyOf(this.successes, capacity);
+        this.successIndices = Arrays.copyOf(this.successIndices, capacity);
+      }
+      this.successes[this.successCount] = result;
+      this.successIndices[this.successCount++] = index;
+    }
+
+    /**
+     * Records a failure.
+     *
+     * @param index the index of the element
+     * @param cause the exception thrown by the operation
+     */
+    @Contract(mutates = "this")
+    private void failed(final int index, final Throwable cause) {
+      if (this.failureCount == this.failures.length) {
+        final int capacity = Partition.grow(this.failureCount);
+        this.failures = Arrays.copyOf(this.failures, capacity);
+        this.failureIndices = Arrays.copyOf(this.failureIndices, capacity);
+      }
+      this.failures[this.failureCount] = cause;
+      this.failureIndices[this.failureCount++] = index;
+    }
+  }
+
+  /** Whether a traversal stops at the first failure or not. */
+  public enum Mode {
+    /** Stop at the first failure. */
+    FAIL_FAST,
+    /** Process every element regardless of failures. */
+    COLLECT_ALL
+  }
+}
@@ -27,9 +27,14 @@ import art.cutils.function.Accepter;
 import art.cutils.function.Dealer;
 import art.cutils.function.Executable;
 import art.cutils.function.ThrowingFunction;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -55,6 +60,10 @@ import org.jetbrains.annotations.Nullable;
  * Try#map(ThrowingFunction)} will vary depending on the state of the operation ... and so on.
  * Review the method description for more information.
  *
+ * <p>Every {@link Try} is immutable; operations such as {@link Try#filter(Predicate)} and {@link
+ * Try#map(ThrowingFunction)} never alter the instance they are called on. Results without a value,
+ * empty results and failures passed along a chain are shared rather than allocated afresh.
+ *
  * <p>Furthermore, fatal exceptions aren't handle by {@link Try}:
  *
  * <ul>
@@ -102,17 +111,299 @@ public abstract class Try<T> implements Serializable {
    * @return instance of {@link Try} either with a {@link Success} or {@link Failure} state.
    * @since v1
    */
-  @Contract("_ -> new")
+  @Contract("_ -> !null")
   public static <T> @NotNull Try<T> of(final Executable operation) {
     Objects.requireNonNull(operation, "operation cannot be null");
     try {
       operation.execute();
-      return new Success<>();
+      return Success.voided();
     } catch (final Exception e) {
       return new Failure<>(e);
     }
   }
 
+  /**
+   * Accepts a {@link Dealer} type function, like {@link Try#of(Dealer)}, but defers trying it. The
+   * operation, and every {@link Try#map(ThrowingFunction)}, {@link Try#filter(Predicate)} and
+   * {@link Try#peek(Accepter)} stage on the returned {@link Try}, runs only once a result or state
+   * is requested, i.e. {@link Try#get()}, {@link Try#isSuccess()} or {@link
+   * Try#onFailure(Consumer)}.
+   *
+   * <p>The operation runs at most once, even when the {@link Try} is shared between threads, and
+   * its outcome is kept for every subsequent call.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param <T> variable type
+   * @return instance of {@link Try} which tries the operation on first use.
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Try<T> lazy(final Dealer<? extends T> operation) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    return new Lazy<>(() -> Try.of(operation));
+  }
+
+  /**
+   * Accepts a {@link Dealer} type function, like {@link Try#of(Dealer)}, and records the outcome
+   * against the call site identified by {@code tag}.
+   *
+   * @param tag the tag identifying the call site, i.e. {@code "db.read"}
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param <T> variable type
+   * @return instance of {@link Try} either with a {@link Success} or {@link Failure} state.
+   * @see TryMetrics
+   * @since v2.8
+   */
+  public static <T> @NotNull Try<T> of(final String tag, final Dealer<? extends T> operation) {
+    return TryMetrics.site(tag).of(operation);
+  }
+
+  /**
+   * Accepts a {@link Executable} type function, like {@link Try#of(Executable)}, and records the
+   * outcome against the call site identified by {@code tag}.
+   *
+   * @param tag the tag identifying the call site, i.e. {@code "db.write"}
+   * @param operation the operation that will be tried, a variable of {@link Executable} type.
+   * @param <T> variable type
+   * @return instance of {@link Try} either with a {@link Success} or {@link Failure} state.
+   * @see TryMetrics
+   * @since v2.8
+   */
+  public static <T> @NotNull Try<T> of(final String tag, final Executable operation) {
+    return TryMetrics.site(tag).of(operation);
+  }
+
+  /**
+   * Creates a failed {@link Try} described by the given reason code, without capturing a stack
+   * trace. Use this on expected failure paths (i.e. validation or parse misses) where the cost of
+   * filling in a stack trace outweighs the value of having one.
+   *
+   * @param code the reason code, also used as the message of the cause.
+   * @param <T> variable type
+   * @return instance of {@link Try} in a {@link Failure} state with a {@link Reason} cause.
+   * @see Reason
+   * @since v2.8
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull Try<T> failFast(final String code) {
+    return Try.failFast(Reason.of(code));
+  }
+
+  /**
+   * Returns the failed {@link Try} carried by a preallocated {@link Reason}. Since neither the
+   * {@link Reason} nor its {@link Failure} is created on call, this allocates nothing and the same
+   * instance is shared by every caller.
+   *
+   * @param reason the preallocated reason of failure.
+   * @param <T> variable type
+   * @return instance of {@link Try} in a {@link Failure} state with {@code reason} as the cause.
+   * @since v2.8
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> @NotNull Try<T> failFast(final Reason reason) {
+    Objects.requireNonNull(reason, "reason cannot be null");
+    return Objects.nonNull(reason.failure) ? (Try<T>) reason.failure : new Failure<>(reason);
+  }
+
+  /**
+   * Runs a {@link Dealer} type function asynchronously on the given {@link Executor}.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param executor the executor to run the operation on.
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture} completed with the outcome of the operation.
+   * @see TryFuture#of(Dealer, Executor)
+   * @since v2.8
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull TryFuture<T> async(
+      final Dealer<? extends T> operation, final Executor executor) {
+    return TryFuture.of(operation, executor);
+  }
+
+  /**
+   * Tries an operation, retrying it on failure as described by the given {@link RetryPolicy}. The
+   * calling thread waits between attempts, use {@link Try#retryAsync(Dealer, RetryPolicy,
+   * Executor)} to avoid holding a thread while waiting.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param policy the policy describing when and how often to retry
+   * @param <T> variable type
+   * @return instance of {@link Try} with the outcome of the last attempt.
+   * @since v2.8
+   */
+  public static <T> @NotNull Try<T> retry(
+      final Dealer<? extends T> operation, final RetryPolicy policy) {
+    Objects.requireNonNull(policy, "policy cannot be null");
+    return policy.run(operation);
+  }
+
+  /**
+   * Tries an operation on the given {@link Executor}, retrying it on failure as described by the
+   * given {@link RetryPolicy}. Delays between attempts are scheduled on a shared scheduler, so no
+   * thread is held while waiting.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param policy the policy describing when and how often to retry
+   * @param executor the executor to run each attempt on
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture} completed with the outcome of the last attempt.
+   * @since v2.8
+   */
+  public static <T> @NotNull TryFuture<T> retryAsync(
+      final Dealer<? extends T> operation, final RetryPolicy policy, final Executor executor) {
+    Objects.requireNonNull(policy, "policy cannot be null");
+    return policy.runAsync(operation, executor);
+  }
+
+  /**
+   * Applies an operation to every element of a collection, on the calling thread, partitioning the
+   * results of successful operations from the causes of failed ones.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal} holding the outcome of every element.
+   * @see Traversal.Mode#COLLECT_ALL
+   * @since v2.8
+   */
+  @Contract("_, _ -> new")
+  public static <T, R> @NotNull Traversal<R> traverse(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation) {
+    return Traversal.of(elements, operation, Traversal.Mode.COLLECT_ALL);
+  }
+
+  /**
+   * Applies an operation to every element of a collection, on the calling thread, partitioning the
+   * results of successful operations from the causes of failed ones.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal} holding the outcome of each processed element.
+   * @since v2.8
+   */
+  @Contract("_, _, _ -> new")
+  public static <T, R> @NotNull Traversal<R> traverse(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation,
+      final Traversal.Mode mode) {
+    return Traversal.of(elements, operation, mode);
+  }
+
+  /**
+   * Applies an operation to every element of a collection in parallel on the {@link
+   * ForkJoinPool#commonPool()}, partitioning the results of successful operations from the causes
+   * of failed ones. The calling thread waits for the traversal to complete.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal} holding the outcome of each processed element.
+   * @since v2.8
+   */
+  @Contract("_, _, _ -> new")
+  public static <T, R> @NotNull Traversal<R> traverseParallel(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation,
+      final Traversal.Mode mode) {
+    return Traversal.of(elements, operation, mode, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Applies an operation to every element of a collection in parallel on the given {@link
+   * Executor}, partitioning the results of successful operations from the causes of failed ones.
+   * The calling thread waits for the traversal to complete.
+   *
+   * @param elements the elements to traverse
+   * @param operation the operation applied to each element
+   * @param mode whether to stop at the first failure or not
+   * @param executor the executor to run the operation on
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @return new instance of {@link Traversal} holding the outcome of each processed element.
+   * @since v2.8
+   */
+  @Contract("_, _, _, _ -> new")
+  public static <T, R> @NotNull Traversal<R> traverseParallel(
+      final Collection<? extends T> elements,
+      final ThrowingFunction<? super T, ? extends R> operation,
+      final Traversal.Mode mode,
+      final Executor executor) {
+    return Traversal.of(elements, operation, mode, executor);
+  }
+
+  /**
+   * Creates a successful {@link Try} with the given result.
+   *
+   * @param result the result of the operation.
+   * @param <T> variable type
+   * @return instance of {@link Try} in a {@link Success} state.
+   */
+  @Contract("_ -> new")
+  static <T> @NotNull Try<T> success(final T result) {
+    return new Success<>(result);
+  }
+
+  /**
+   * Creates a failed {@link Try} with the given cause.
+   *
+   * @param cause the cause of failure.
+   * @param <T> variable type
+   * @return instance of {@link Try} in a {@link Failure} state.
+   */
+  @Contract("_ -> new")
+  static <T> @NotNull Try<T> failure(final Throwable cause) {
+    return new Failure<>(cause);
+  }
+
+  /**
+   * Shared successful {@link Try} whose filter condition is not met.
+   *
+   * @param <T> variable type
+   * @return instance of {@link Try} in an empty {@link Success} state.
+   */
+  @Contract(pure = true)
+  static <T> @NotNull Try<T> emptySuccess() {
+    return Success.empty();
+  }
+
+  /**
+   * Shared successful {@link Try} without a result.
+   *
+   * @param <T> variable type
+   * @return instance of {@link Try} in a {@link Success} state without a result.
+   */
+  @Contract(pure = true)
+  static <T> @NotNull Try<T> voidSuccess() {
+    return Success.voided();
+  }
+
+  /**
+   * Replaces this instance with its compact serialized form.
+   *
+   * @return the serialized form of this instance
+   */
+  Object writeReplace() {
+    return new Wire(this);
+  }
+
+  /**
+   * Guards against streams not written through {@link Try#writeReplace()}.
+   *
+   * @param in the stream to read from
+   * @throws InvalidObjectException always
+   */
+  private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Wire form required.");
+  }
+
   /**
    * If {@link Try#isSuccess()}, {@link Try#isResult()} and {@link Try#isNotEmpty()} ()} invoke the
    * specified consumer with the operation result, otherwise do nothing.
@@ -238,7 +529,7 @@ public abstract class Try<T> implements Serializable {
    *
    * @implSpec Use this method instead {@link Try#onSuccess(Runnable)} to safely perform an action
    *     on the result.
-   * @implNote if the current try is a {@link Failure} it will return a new {@link Failure} instance
+   * @implNote if the current try is a {@link Failure} the same {@link Failure} instance is returned
    * @param acceptor the action to be performed on the result if present.
    * @return a {@link Try} consisting of the Result, if a result is present, otherwise an empty
    */
@@ -333,6 +624,46 @@ public abstract class Try<T> implements Serializable {
    */
   public abstract <M> Try<M> map(final ThrowingFunction<? super T, ? extends M> mapper);
 
+  /**
+   * If the try operation fails with a cause of the given type, apply the provided function to the
+   * cause to supply a result, and return an instance of {@link Try} with the supplied result.
+   *
+   * @param type the exception type to recover from, subtypes are also recovered
+   * @param recovery a function supplying a result from the cause of failure
+   * @param <X> the exception type
+   * @return an instance of {@link Try} describing the result of {@code recovery} if the cause is
+   *     of the given type, otherwise this instance.
+   * @see RecoveryTable
+   * @since v2.8
+   */
+  public <X extends Throwable> Try<T> recover(
+      final Class<X> type, final ThrowingFunction<? super X, ? extends T> recovery) {
+    Objects.requireNonNull(type, "type cannot be null");
+    Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+    if (this.isFailure() && type.isInstance(this.getCause())) {
+      try {
+        return new Success<>(recovery.apply(type.cast(this.getCause())));
+      } catch (final Exception e) {
+        return new Failure<>(e);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * If the try operation fails with a cause handled by the given {@link RecoveryTable}, apply the
+   * matching handler to the cause to supply a result.
+   *
+   * @param table the table of handlers
+   * @return an instance of {@link Try} describing the result of the matching handler, otherwise
+   *     this instance.
+   * @since v2.8
+   */
+  public Try<T> recover(final RecoveryTable<T> table) {
+    Objects.requireNonNull(table, "table cannot be null");
+    return table.recover(this);
+  }
+
   /**
    * If the try operation does not return a result after a {@link Try#filter(Predicate)}, apply the
    * provided dealer function to provide a default value, and return an instance of {@link Try} with
@@ -390,45 +721,328 @@ public abstract class Try<T> implements Serializable {
    */
   public abstract T orElseThrow(final Throwable throwable);
 
+  /**
+   * Represents a {@link Try} whose operation, and the stages added on it, runs on first use.
+   *
+   * @param <L> the type of the result value
+   */
+  private static final class Lazy<L> extends Try<L> implements Serializable {
+    private static final long serialVersionUID = -2150958279632585471L;
+
+    /** Computes the outcome, released once the outcome is known. */
+    private transient Supplier<Try<L>> operation;
+
+    /** The outcome, {@code null} until computed. */
+    private transient volatile Try<L> outcome;
+
+    /**
+     * Creates a new instance computing its outcome with the given operation.
+     *
+     * @param operation computes the outcome
+     */
+    @Contract(pure = true)
+    private Lazy(final Supplier<Try<L>> operation) {
+      this.operation = operation;
+    }
+
+    /**
+     * Computes the outcome on first call, or retrieves it.
+     *
+     * @return the outcome
+     */
+    private Try<L> evaluate() {
+      Try<L> result = this.outcome;
+      if (Objects.isNull(result)) {
+        synchronized (this) {
+          result = this.outcome;
+          if (Objects.isNull(result)) {
+            result = this.operation.get();
+            this.outcome = result;
+            this.operation = null;
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Serializes the outcome rather than the deferred operation.
+     *
+     * @return the serialized form of the outcome
+     */
+    @Override
+    Object writeReplace() {
+      return this.evaluate().writeReplace();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return this.evaluate().isSuccess();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isResult() {
+      return this.evaluate().isResult();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNotEmpty() {
+      return this.evaluate().isNotEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public L get() {
+      return this.evaluate().get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+      return this.evaluate().isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> this")
+    public Try<L> onEmpty(final Runnable run) {
+      this.evaluate().onEmpty(run);
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> new")
+    public Try<L> filter(final Predicate<? super L> predicate) {
+      Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+      return new Lazy<>(() -> this.evaluate().filter(predicate));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> new")
+    public Try<L> peek(final Accepter<? super L> acceptor) {
+      Objects.requireNonNull(acceptor, "Accepter cannot be null.");
+      return new Lazy<>(() -> this.evaluate().peek(acceptor));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<L> getOptional() {
+      return this.evaluate().getOptional();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return this.evaluate().isFailure();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Throwable getCause() {
+      return this.evaluate().getCause();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> new")
+    public <M> Try<M> map(final ThrowingFunction<? super L, ? extends M> mapper) {
+      Objects.requireNonNull(mapper, "Mapper cannot be null.");
+      return new Lazy<>(() -> this.evaluate().map(mapper));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_, _ -> new")
+    public <X extends Throwable> Try<L> recover(
+        final Class<X> type, final ThrowingFunction<? super X, ? extends L> recovery) {
+      Objects.requireNonNull(type, "type cannot be null");
+      Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+      return new Lazy<>(() -> this.evaluate().recover(type, recovery));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> new")
+    public Try<L> recover(final RecoveryTable<L> table) {
+      Objects.requireNonNull(table, "table cannot be null");
+      return new Lazy<>(() -> this.evaluate().recover(table));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Contract("_ -> new")
+    public <D> Try<D> onEmpty(final Dealer<? extends D> dealer) {
+      Objects.requireNonNull(dealer, "onEmpty Dealer cannot be null.");
+      return new Lazy<>(() -> this.evaluate().onEmpty(dealer));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public L orElseGet(final L other) {
+      return this.evaluate().orElseGet(other);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public L orElseGet(final Supplier<? extends L> other) {
+      return this.evaluate().orElseGet(other);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <X extends Throwable> L orElseThrow(final Supplier<? extends X> exceptionSupplier)
+        throws X {
+      return this.evaluate().orElseThrow(exceptionSupplier);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public L orElseThrow(final Throwable throwable) {
+      return this.evaluate().orElseThrow(throwable);
+    }
+  }
+
+  /**
+   * A lightweight, stackless cause for expected failures. A {@link Reason} never fills in its stack
+   * trace and does not record suppressed exceptions, which makes it cheap to create and safe to
+   * preallocate and share, i.e. as a {@code static final} constant.
+   *
+   * <pre>{@code
+   * static final Try.Reason BLANK = Try.Reason.of("blank", "value cannot be blank");
+   *
+   * Try<String> name = input.isEmpty() ? Try.failFast(BLANK) : Try.of(() -> parse(input));
+   * }</pre>
+   *
+   * @since v2.8
+   */
+  public static final class Reason extends RuntimeException {
+    private static final long serialVersionUID = -3541905563862017237L;
+
+    /** The reason code. */
+    private final String code;
+
+    /** The failed {@link Try} shared by every {@link Try#failFast(Reason)} call. */
+    private final transient Failure<?> failure;
+
+    /**
+     * Creates a new {@link Reason}.
+     *
+     * @param code the reason code
+     * @param message the detail message
+     */
+    private Reason(final String code, final String message) {
+      super(message, null, false, false);
+      this.code = Objects.requireNonNull(code, "code cannot be null");
+      this.failure = new Failure<>(this);
+    }
+
+    /**
+     * Creates a new {@link Reason} whose message is the reason code.
+     *
+     * @param code the reason code
+     * @return new instance of {@link Reason}
+     */
+    @Contract("_ -> new")
+    public static @NotNull Reason of(final String code) {
+      return new Reason(code, code);
+    }
+
+    /**
+     * Creates a new {@link Reason}.
+     *
+     * @param code the reason code
+     * @param message the detail message
+     * @return new instance of {@link Reason}
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull Reason of(final String code, final String message) {
+      return new Reason(code, message);
+    }
+
+    /**
+     * Retrieve the reason code.
+     *
+     * @return the reason code
+     */
+    @Contract(pure = true)
+    public String getCode() {
+      return this.code;
+    }
+  }
+
   /**
    * The {@code Success} class represents a success state of a Try operation. It is a concrete
    * implementation of the {@link Try} abstract class.
    *
    * @param <S> the type of the result value
    */
-  private static class Success<S> extends Try<S> implements Serializable {
+  private static final class Success<S> extends Try<S> implements Serializable {
     private static final long serialVersionUID = 4332649928027329163L;
-    private boolean isResult;
 
-    private S result;
+    /** Shared state of a successful operation without a result, see {@link Try#of(Executable)}. */
+    private static final Success<?> VOID = new Success<>(null, false, false);
+
+    /** Shared state of a successful operation whose filter condition is not met. */
+    private static final Success<?> EMPTY = new Success<>(null, false, true);
+
+    private final boolean isResult;
+
+    private final S result;
 
     /** Indicates whether the variable is empty or not. */
-    private boolean empty;
+    private final boolean empty;
 
     /**
-     * Initializes a new Success instance with the given empty flag.
+     * Creates a new instance of the Success class with the given state.
      *
+     * @param result the result value
+     * @param isResult the flag indicating if the Success instance holds a result.
      * @param empty The flag indicating if the Success instance is empty.
      */
-    private Success(final boolean empty) {
-      this();
+    @Contract(pure = true)
+    private Success(final S result, final boolean isResult, final boolean empty) {
+      this.result = result;
+      this.isResult = isResult;
       this.empty = empty;
     }
 
-    /** Represents a success state of a Try operation. */
-    private Success() {
-      super();
-      this.isResult = false;
-    }
-
     /**
      * Creates a new instance of the Success class with the given result.
      *
      * @param result the result value
      */
+    @Contract(pure = true)
     private Success(final S result) {
-      this.isResult = true;
-      this.result = result;
+      this(result, true, false);
+    }
+
+    /**
+     * Shared instance of a successful operation whose filter condition is not met.
+     *
+     * @param <S> the type of the result value
+     * @return the {@link Success#EMPTY} instance
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    private static <S> Success<S> empty() {
+      return (Success<S>) EMPTY;
+    }
+
+    /**
+     * Shared instance of a successful operation without a result.
+     *
+     * @param <S> the type of the result value
+     * @return the {@link Success#VOID} instance
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    private static <S> Success<S> voided() {
+      return (Success<S>) VOID;
     }
 
     /** {@inheritDoc} */
@@ -501,30 +1115,14 @@ public abstract class Try<T> implements Serializable {
 
     /** {@inheritDoc} */
     @Override
-    @Contract("_ -> this")
     public Try<S> filter(final Predicate<? super S> predicate) {
       Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
-      if (this.isResult && this.isNotEmpty()) {
-        if (predicate.test(this.result)) {
-          return this;
-        }
-        this.clean();
+      if (this.isResult && this.isNotEmpty() && !predicate.test(this.result)) {
+        return Success.empty(); // empty, condition is not met
       }
       return this;
     }
 
-    /**
-     * Clean the try operation state.
-     *
-     * @implNote This method is used to clean the try operation state when a condition is not met.
-     */
-    @Contract(mutates = "this")
-    private void clean() {
-      this.empty = true; // empty, condition is not met
-      this.isResult = false; // no result
-      this.result = null; // clear result
-    }
-
     /** {@inheritDoc} */
     @Override
     @Contract(pure = true)
@@ -565,9 +1163,14 @@ public abstract class Try<T> implements Serializable {
     @Override
     public <M> @NotNull Try<M> map(final ThrowingFunction<? super S, ? extends M> mapper) {
       Objects.requireNonNull(mapper, "Mapper cannot be null.");
-      return this.isResult && this.isNotEmpty()
-          ? Try.of(() -> mapper.apply(this.result))
-          : new Success<>(true);
+      if (this.isResult && this.isNotEmpty()) {
+        try {
+          return new Success<>(mapper.apply(this.result));
+        } catch (final Exception e) {
+          return new Failure<>(e);
+        }
+      }
+      return Success.empty();
     }
 
     /** {@inheritDoc} */
@@ -613,9 +1216,10 @@ public abstract class Try<T> implements Serializable {
    *
    * @param <F> The type of the result of the computation
    */
-  private static class Failure<F> extends Try<F> implements Serializable {
+  private static final class Failure<F> extends Try<F> implements Serializable {
     private static final long serialVersionUID = 6137465851350394283L;
 
+    /** The cause of failure, written in its compact form, see {@link Wire}. */
     private final transient Throwable exception;
 
     private Failure(final Throwable exception) {
@@ -698,16 +1302,28 @@ public abstract class Try<T> implements Serializable {
 
     /** {@inheritDoc} */
     @Override
-    @Contract(value = "_ -> fail", pure = true)
+    @Contract(value = "_ -> this", pure = true)
     public <M> @NotNull Try<M> map(final ThrowingFunction<? super F, ? extends M> mapper) {
-      return new Failure<>(this.exception);
+      return this.recast();
     }
 
     /** {@inheritDoc} */
     @Override
     @Contract(pure = true)
     public <D> @NotNull Try<D> onEmpty(final Dealer<? extends D> dealer) {
-      return new Failure<>(this.exception);
+      return this.recast();
+    }
+
+    /**
+     * A {@link Failure} holds no result, so the same instance can safely stand in for any type.
+     *
+     * @param <R> the new type of the result
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    @Contract(value = "-> this", pure = true)
+    private <R> Try<R> recast() {
+      return (Try<R>) this;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,358 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import art.cutils.function.ThrowingFunction;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link TryFuture} is the asynchronous counterpart of {@link Try}, it represents a {@link Try}
+ * that will be available in the future.
+ *
+ * <p>Every operation is non-blocking: stages are composed on the underlying {@link
+ * CompletableFuture} and run as soon as the previous stage completes. The only blocking operations
+ * are the terminal {@link TryFuture#get()} and {@link TryFuture#get(long, TimeUnit)}, which, like
+ * {@link Try}, never throw but describe a failed, cancelled or interrupted computation as a failed
+ * {@link Try}.
+ *
+ * <pre>{@code
+ * Try<Integer> length =
+ *     Try.async(() -> fetch(url), executor)
+ *         .map(String::length)
+ *         .recover(cause -> 0)
+ *         .within(200, TimeUnit.MILLISECONDS)
+ *         .get();
+ * }</pre>
+ *
+ * @param <T> type
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class TryFuture<T> {
+
+  /** The future holding the outcome of the operation. */
+  private final CompletableFuture<Try<T>> future;
+
+  /**
+   * Constructs an instance describing the given future.
+   *
+   * @param future the future holding the outcome of the operation
+   */
+  @Contract(pure = true)
+  private TryFuture(final CompletableFuture<Try<T>> future) {
+    this.future = future;
+  }
+
+  /**
+   * Runs a {@link Dealer} type function asynchronously on the given {@link Executor}.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param executor the executor to run the operation on.
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture} completed with the outcome of the operation.
+   */
+  @Contract("_, _ -> new")
+  public static <T> @NotNull TryFuture<T> of(
+      final Dealer<? extends T> operation, final Executor executor) {
+    Objects.requireNonNull(operation, "operation cannot be null");
+    Objects.requireNonNull(executor, "executor cannot be null");
+    return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.of(operation), executor));
+  }
+
+  /**
+   * Runs a {@link Dealer} type function asynchronously on the {@link ForkJoinPool#commonPool()}.
+   *
+   * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture} completed with the outcome of the operation.
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull TryFuture<T> of(final Dealer<? extends T> operation) {
+    return TryFuture.of(operation, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a {@link TryFuture} describing the given future.
+   *
+   * @param future the future holding the outcome of an operation
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture}
+   */
+  @Contract("_ -> new")
+  static <T> @NotNull TryFuture<T> wrap(final CompletableFuture<Try<T>> future) {
+    return new TryFuture<>(future);
+  }
+
+  /**
+   * Creates a {@link TryFuture} that is already completed with the given {@link Try}.
+   *
+   * @param result the outcome of an operation
+   * @param <T> variable type
+   * @return new instance of a completed {@link TryFuture}
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull TryFuture<T> completed(final Try<T> result) {
+    Objects.requireNonNull(result, "result cannot be null");
+    return new TryFuture<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Creates a {@link TryFuture} completed with the outcome of the given {@link CompletionStage}.
+   * An exceptional completion of {@code stage} is described as a failed {@link Try}.
+   *
+   * @param stage the stage to adapt
+   * @param <T> variable type
+   * @return new instance of {@link TryFuture}
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull TryFuture<T> from(final CompletionStage<? extends T> stage) {
+    Objects.requireNonNull(stage, "stage cannot be null");
+    final CompletableFuture<Try<T>> future = new CompletableFuture<>();
+    stage.whenComplete(
+        (result, ex) ->
+            future.complete(
+                Objects.isNull(ex) ? Try.of(() -> result) : Try.failure(TryFuture.unwrap(ex))));
+    return new TryFuture<>(future);
+  }
+
+  /**
+   * Settles the outcome of a stage into a {@link Try}.
+   *
+   * @param result the result of the stage, if completed normally
+   * @param ex the exception of the stage, if completed exceptionally
+   * @param <T> variable type
+   * @return the {@code result} or a failed {@link Try} with the cause of {@code ex}
+   */
+  private static <T> Try<T> settle(final Try<T> result, final Throwable ex) {
+    return Objects.isNull(ex) ? result : Try.failure(TryFuture.unwrap(ex));
+  }
+
+  /**
+   * Unwraps the exception wrapping the actual cause of a failed stage.
+   *
+   * @param ex the exception of the stage
+   * @return the actual cause
+   */
+  static Throwable unwrap(final Throwable ex) {
+    return (ex instanceof CompletionException || ex instanceof ExecutionException)
+            && Objects.nonNull(ex.getCause())
+        ? ex.getCause()
+        : ex;
+  }
+
+  /**
+   * If the operation returns a result, apply the provided mapping function to it once available.
+   *
+   * @param mapper a mapping function to apply to the result if available.
+   * @param <M> The type of the result of the mapping function
+   * @return new instance of {@link TryFuture} describing the result of the mapping function.
+   * @see Try#map(ThrowingFunction)
+   */
+  @Contract("_ -> new")
+  public <M> @NotNull TryFuture<M> map(final ThrowingFunction<? super T, ? extends M> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return new TryFuture<>(
+        this.future.handle((result, ex) -> TryFuture.settle(result, ex).map(mapper)));
+  }
+
+  /**
+   * If the operation returns a result, apply the provided asynchronous function to it once
+   * available, and continue with its outcome.
+   *
+   * @param mapper a function returning the next asynchronous operation.
+   * @param <M> The type of the result of the next operation
+   * @return new instance of {@link TryFuture} describing the outcome of the next operation.
+   */
+  @Contract("_ -> new")
+  public <M> @NotNull TryFuture<M> flatMap(
+      final ThrowingFunction<? super T, TryFuture<M>> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return new TryFuture<>(
+        this.future
+            .handle((result, ex) -> TryFuture.settle(result, ex).map(mapper))
+            .thenCompose(
+                next -> {
+                  if (next.isFailure()) {
+                    return CompletableFuture.completedFuture(Try.failure(next.getCause()));
+                  }
+                  if (!next.isResult()) {
+                    return CompletableFuture.completedFuture(Try.emptySuccess());
+                  }
+                  return Objects.requireNonNull(next.get(), "Mapper returned null.").future;
+                }));
+  }
+
+  /**
+   * If the operation fails, apply the provided function to the cause to supply a result.
+   *
+   * @param recovery a function supplying a result from the cause of failure.
+   * @return new instance of {@link TryFuture} with the recovered result if the operation fails.
+   */
+  @Contract("_ -> new")
+  public @NotNull TryFuture<T> recover(
+      final ThrowingFunction<? super Throwable, ? extends T> recovery) {
+    Objects.requireNonNull(recovery, "Recovery function cannot be null.");
+    return new TryFuture<>(
+        this.future.handle(
+            (result, ex) -> {
+              final Try<T> settled = TryFuture.settle(result, ex);
+              return settled.isFailure()
+                  ? Try.of(() -> recovery.apply(settled.getCause()))
+                  : settled;
+            }));
+  }
+
+  /**
+   * Once the operation succeeds with a result, invoke the specified consumer with it.
+   *
+   * @param result the consumer of the result.
+   * @return new instance of {@link TryFuture} completing after the consumer is invoked.
+   * @see Try#onSuccess(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull TryFuture<T> onSuccess(final Consumer<? super T> result) {
+    Objects.requireNonNull(result, "Success result Consumer cannot be null.");
+    return new TryFuture<>(
+        this.future.handle((value, ex) -> TryFuture.settle(value, ex).onSuccess(result)));
+  }
+
+  /**
+   * Once the operation fails, invoke the specified consumer with the cause.
+   *
+   * @param cause the consumer of the cause.
+   * @return new instance of {@link TryFuture} completing after the consumer is invoked.
+   * @see Try#onFailure(Consumer)
+   */
+  @Contract("_ -> new")
+  public @NotNull TryFuture<T> onFailure(final Consumer<? super Throwable> cause) {
+    Objects.requireNonNull(cause, "Failure cause Consumer cannot be null.");
+    return new TryFuture<>(
+        this.future.handle((value, ex) -> TryFuture.settle(value, ex).onFailure(cause)));
+  }
+
+  /**
+   * Fails with a {@link TimeoutException} if the operation is not completed within the given time.
+   * The timeout is fired by a shared scheduler, no thread waits for it.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the time unit of the timeout argument
+   * @return new instance of {@link TryFuture} which fails if the timeout elapses first.
+   */
+  @Contract("_, _ -> new")
+  public @NotNull TryFuture<T> within(final long timeout, final TimeUnit unit) {
+    Objects.requireNonNull(unit, "unit cannot be null");
+    final CompletableFuture<Try<T>> timed = new CompletableFuture<>();
+    final ScheduledFuture<?> timer =
+        Scheduler.get()
+            .schedule(
+                () ->
+                    timed.complete(
+                        Try.failure(
+                            new TimeoutException("Timed out after " + timeout + " " + unit))),
+                timeout,
+                unit);
+    this.future.whenComplete(
+        (result, ex) -> {
+          timer.cancel(false);
+          timed.complete(TryFuture.settle(result, ex));
+        });
+    return new TryFuture<>(timed);
+  }
+
+  /**
+   * Use to check whether the operation, and every stage before this one, has completed.
+   *
+   * @return {@code true} if completed else {@code false}
+   */
+  public boolean isDone() {
+    return this.future.isDone();
+  }
+
+  /**
+   * Waits if necessary for the operation to complete, and then retrieves its outcome.
+   *
+   * @return the outcome of the operation, a failed {@link Try} if it was cancelled or the waiting
+   *     thread was interrupted.
+   */
+  public @NotNull Try<T> get() {
+    try {
+      return this.future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Try.failure(e);
+    } catch (final ExecutionException | CancellationException e) {
+      return Try.failure(TryFuture.unwrap(e));
+    }
+  }
+
+  /**
+   * Waits if necessary for at most the given time for the operation to complete, and then
+   * retrieves its outcome.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the time unit of the timeout argument
+   * @return the outcome of the operation, a failed {@link Try} if it was cancelled, the waiting
+   *     thread was interrupted or the wait timed out.
+   */
+  public @NotNull Try<T> get(final long timeout, final TimeUnit unit) {
+    try {
+      return this.future.get(timeout, unit);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Try.failure(e);
+    } catch (final ExecutionException | CancellationException | TimeoutException e) {
+      return Try.failure(TryFuture.unwrap(e));
+    }
+  }
+
+  /**
+   * Used to get the {@link CompletableFuture} backing this instance.
+   *
+   * @return {@link CompletableFuture} of the outcome of the operation
+   */
+  @Contract(pure = true)
+  public @NotNull CompletableFuture<Try<T>> toCompletableFuture() {
+    return this.future;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "TryFuture{" + "future=" + this.future + '}';
+  }
+}
@@ -0,0 +1,363 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Dealer;
+import art.cutils.function.Executable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link TryMetrics} counts the outcomes of {@link Try} operations per call site. Recording is
+ * opt-in: only operations tried through {@link Try#of(String, Dealer)}, {@link Try#of(String,
+ * Executable)} or their {@link Site} counterparts are counted.
+ *
+ * <p>Counters are {@link LongAdder}s, so concurrent recording does not contend, and failures are
+ * counted per exception class through a {@link ClassValue}, so recording allocates nothing once a
+ * call site and exception class have been seen. Resolving a tag to its {@link Site} is a map
+ * lookup; hold on to the {@link Site} returned by {@link TryMetrics#site(String)} to skip it.
+ *
+ * <pre>{@code
+ * private static final TryMetrics.Site DB_READ = TryMetrics.site("db.read");
+ *
+ * Try<Row> row = DB_READ.of(() -> db.read(id));
+ * TryMetrics.Snapshot snapshot = DB_READ.snapshot();
+ * }</pre>
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class TryMetrics {
+
+  /** The call sites, by tag. */
+  private static final ConcurrentMap<String, Site> SITES = new ConcurrentHashMap<>();
+
+  /** Locked for life. */
+  @Contract(pure = true)
+  private TryMetrics() {}
+
+  /**
+   * Retrieve the call site of the given tag, registering it on first use.
+   *
+   * @param tag the tag identifying the call site
+   * @return the {@link Site} of the tag
+   */
+  public static @NotNull Site site(final String tag) {
+    Objects.requireNonNull(tag, "tag cannot be null");
+    final Site site = TryMetrics.SITES.get(tag);
+    return Objects.nonNull(site) ? site : TryMetrics.SITES.computeIfAbsent(tag, Site::new);
+  }
+
+  /**
+   * Takes a snapshot of the counters of every call site.
+   *
+   * @return unmodifiable {@link Map} of the {@link Snapshot} of each call site, by tag
+   */
+  public static @NotNull Map<String, Snapshot> snapshot() {
+    final Map<String, Snapshot> snapshots = new LinkedHashMap<>();
+    TryMetrics.SITES.forEach((tag, site) -> snapshots.put(tag, site.snapshot()));
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  /** Resets the counters of every call site. */
+  public static void reset() {
+    TryMetrics.SITES.values().forEach(Site::reset);
+  }
+
+  /**
+   * The counters of a call site.
+   *
+   * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+   * @since v2.8
+   */
+  public static final class Site {
+
+    /** The tag identifying the call site. */
+    private final String tag;
+
+    /** Counts successful operations, with or without a result. */
+    private final LongAdder successes = new LongAdder();
+
+    /** Counts successful operations emptied by {@link Try#filter(Predicate)}. */
+    private final LongAdder empties = new LongAdder();
+
+    /** Counts failed operations. */
+    private final LongAdder failures = new LongAdder();
+
+    /** Counts failed operations, by exception class. */
+    private final ConcurrentMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    /** Resolves the failure counter of an exception class once. */
+    private final ClassValue<LongAdder> failureCounter =
+        new ClassValue<LongAdder>() {
+          @Override
+          protected LongAdder computeValue(final Class<?> type) {
+            return Site.this.failuresByType.computeIfAbsent(type, key -> new LongAdder());
+          }
+        };
+
+    /**
+     * Constructs the counters of a call site.
+     *
+     * @param tag the tag identifying the call site
+     */
+    @Contract(pure = true)
+    private Site(final String tag) {
+      this.tag = tag;
+    }
+
+    /**
+     * Tries the operation and records its outcome.
+     *
+     * @param operation the operation that will be tried, a variable of {@link Dealer} type.
+     * @param <T> variable type
+     * @return instance of {@link Try} either with a {@link Try#isSuccess()} or {@link
+     *     Try#isFailure()} state.
+     * @see Try#of(Dealer)
+     */
+    public <T> @NotNull Try<T> of(final Dealer<? extends T> operation) {
+      return this.record(Try.of(operation));
+    }
+
+    /**
+     * Tries the operation and records its outcome.
+     *
+     * @param operation the operation that will be tried, a variable of {@link Executable} type.
+     * @param <T> variable type
+     * @return instance of {@link Try} either with a {@link Try#isSuccess()} or {@link
+     *     Try#isFailure()} state.
+     * @see Try#of(Executable)
+     */
+    public <T> @NotNull Try<T> of(final Executable operation) {
+      return this.record(Try.of(operation));
+    }
+
+    /**
+     * Records the outcome of an operation: empty if it succeeded but was emptied by {@link
+     * Try#filter(Predicate)}, a success if it otherwise succeeded, with or without a result, and a
+     * failure otherwise.
+     *
+     * @param outcome the outcome of the operation
+     * @param <T> variable type
+     * @return the given {@code outcome}
+     */
+    @Contract("_ -> param1")
+    public <T> @NotNull Try<T> record(final @NotNull Try<T> outcome) {
+      if (outcome.isFailure()) {
+        this.failures.increment();
+        final Throwable cause = outcome.getCause();
+        if (Objects.nonNull(cause)) {
+          this.failureCounter.get(cause.getClass()).increment();
+        }
+      } else if (outcome.isEmpty()) {
+        this.empties.increment();
+      } else {
+        this.successes.increment();
+      }
+      return outcome;
+    }
+
+    /**
+     * Takes a snapshot of the counters of this call site. Counters updated concurrently may be
+     * observed at slightly different points in time.
+     *
+     * @return new instance of {@link Snapshot}
+     */
+    public @NotNull Snapshot snapshot() {
+      final Map<Class<?>, Long> byType = new LinkedHashMap<>();
+      this.failuresByType.forEach((type, counter) -> byType.put(type, counter.sum()));
+      return new Snapshot(
+          this.tag,
+          this.successes.sum(),
+          this.empties.sum(),
+          this.failures.sum(),
+          Collections.unmodifiableMap(byType));
+    }
+
+    /** Resets the counters of this call site. */
+    public void reset() {
+      this.successes.reset();
+      this.empties.reset();
+      this.failures.reset();
+      this.failuresByType.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Retrieve the tag identifying the call site.
+     *
+     * @return the tag
+     */
+    @Contract(pure = true)
+    public String getTag() {
+      return this.tag;
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return "Site{" + "tag='" + this.tag + '\'' + '}';
+    }
+  }
+
+  /**
+   * An immutable snapshot of the counters of a call site.
+   *
+   * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+   * @since v2.8
+   */
+  public static final class Snapshot {
+
+    /** The tag identifying the call site. */
+    private final String tag;
+
+    /** The number of successful operations, with or without a result. */
+    private final long successes;
+
+    /** The number of successful operations emptied by {@link Try#filter(Predicate)}. */
+    private final long empties;
+
+    /** The number of failed operations. */
+    private final long failures;
+
+    /** The number of failed operations, by exception class. */
+    private final Map<Class<?>, Long> failuresByType;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param tag the tag identifying the call site
+     * @param successes the number of successful operations, with or without a result
+     * @param empties the number of successful operations emptied by {@link Try#filter(Predicate)}
+     * @param failures the number of failed operations
+     * @param failuresByType the number of failed operations, by exception class
+     */
+    @Contract(pure = true)
+    private Snapshot(
+        final String tag,
+        final long successes,
+        final long empties,
+        final long failures,
+        final Map<Class<?>, Long> failuresByType) {
+      this.tag = tag;
+      this.successes = successes;
+      this.empties = empties;
+      this.failures = failures;
+      this.failuresByType = failuresByType;
+    }
+
+    /**
+     * Retrieve the tag identifying the call site.
+     *
+     * @return the tag
+     */
+    @Contract(pure = true)
+    public String getTag() {
+      return this.tag;
+    }
+
+    /**
+     * Retrieve the number of successful operations, with or without a result.
+     *
+     * @return the number of successes
+     */
+    @Contract(pure = true)
+    public long getSuccesses() {
+      return this.successes;
+    }
+
+    /**
+     * Retrieve the number of successful operations emptied by {@link Try#filter(Predicate)}.
+     *
+     * @return the number of empty outcomes
+     */
+    @Contract(pure = true)
+    public long getEmpties() {
+      return this.empties;
+    }
+
+    /**
+     * Retrieve the number of failed operations.
+     *
+     * @return the number of failures
+     */
+    @Contract(pure = true)
+    public long getFailures() {
+      return this.failures;
+    }
+
+    /**
+     * Retrieve the number of failed operations caused by exactly the given exception class.
+     *
+     * @param type the exception class
+     * @return the number of failures caused by {@code type}
+     */
+    public long getFailures(final Class<? extends Throwable> type) {
+      return this.failuresByType.getOrDefault(type, 0L);
+    }
+
+    /**
+     * Retrieve the number of failed operations, by exception class.
+     *
+     * @return unmodifiable {@link Map} of the number of failures by exception class
+     */
+    @Contract(pure = true)
+    public @NotNull Map<Class<?>, Long> getFailuresByType() {
+      return this.failuresByType;
+    }
+
+    /**
+     * Retrieve the total number of operations recorded.
+     *
+     * @return the number of operations
+     */
+    @Contract(pure = true)
+    public long getTotal() {
+      return this.successes + this.empties + this.failures;
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return "Snapshot{"
+          + "tag='"
+          + this.tag
+          + '\''
+          + ", successes="
+          + this.successes
+          + ", empties="
+          + this.empties
+          + ", failures="
+          + this.failures
+          + ", failuresByType="
+          + this.failuresByType
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import art.cutils.function.Accepter;
+import art.cutils.function.ThrowingFunction;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link TryPipeline} is a reusable chain of {@link Try} operations, built once and applied to
+ * any number of inputs. Where {@code Try.of(...).map(f).filter(p).map(g)} creates a {@link Try} at
+ * every stage, a pipeline runs every stage within a single try-catch block and creates a single
+ * {@link Try} per input.
+ *
+ * <pre>{@code
+ * TryPipeline<String, Integer> parse =
+ *     TryPipeline.<String>init()
+ *         .map(String::trim)
+ *         .map(Integer::parseInt)
+ *         .filter(value -> value > 0)
+ *         .map(value -> value * 2);
+ *
+ * Try<Integer> result = parse.apply("21");
+ * }</pre>
+ *
+ * <p>A pipeline is immutable, adding a stage returns a new pipeline, so it can be shared between
+ * threads. The outcome of {@link TryPipeline#apply(Object)} is the same as that of the equivalent
+ * {@link Try} chain, except that an exception thrown by a {@link Predicate} is also described as a
+ * failed {@link Try}.
+ *
+ * @param <I> the type of the input to the pipeline
+ * @param <O> the type of the result of the pipeline
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+public final class TryPipeline<I, O> {
+
+  /** Stage kind of {@link TryPipeline#map(ThrowingFunction)}. */
+  private static final byte MAP = 0;
+
+  /** Stage kind of {@link TryPipeline#filter(Predicate)}. */
+  private static final byte FILTER = 1;
+
+  /** Stage kind of {@link TryPipeline#peek(Accepter)}. */
+  private static final byte PEEK = 2;
+
+  /** The pipeline without stages. */
+  private static final TryPipeline<?, ?> IDENTITY = new TryPipeline<>(new byte[0], new Object[0]);
+
+  /** The kind of each stage, in order. */
+  private final byte[] kinds;
+
+  /** The operation of each stage, in order. */
+  private final Object[] operations;
+
+  /**
+   * Constructs a pipeline with the given stages.
+   *
+   * @param kinds the kind of each stage
+   * @param operations the operation of each stage
+   */
+  @Contract(pure = true)
+  private TryPipeline(final byte[] kinds, final Object[] operations) {
+    this.kinds = kinds;
+    this.operations = operations;
+  }
+
+  /**
+   * Creates a pipeline without stages, it returns a successful {@link Try} of its input.
+   *
+   * @param <I> the type of the input to the pipeline
+   * @return the pipeline without stages
+   */
+  @SuppressWarnings("unchecked")
+  @Contract(pure = true)
+  public static <I> @NotNull TryPipeline<I, I> init() {
+    return (TryPipeline<I, I>) TryPipeline.IDENTITY;
+  }
+
+  /**
+   * Creates a new pipeline with the given stage appended.
+   *
+   * @param kind the kind of the stage
+   * @param operation the operation of the stage
+   * @param <R> the type of the result of the new pipeline
+   * @return new instance of {@link TryPipeline}
+   */
+  @Contract("_, _ -> new")
+  private <R> @NotNull TryPipeline<I, R> append(final byte kind, final Object operation) {
+    final int length = this.kinds.length;
+    final byte[] kinds = Arrays.copyOf(this.kinds, length + 1);
+    final Object[] operations = Arrays.copyOf(this.operations, length + 1);
+    kinds[length] = kind;
+    operations[length] = operation;
+    return new TryPipeline<>(kinds, operations);
+  }
+
+  /**
+   * Appends a mapping stage.
+   *
+   * @param mapper a mapping function to apply to the result.
+   * @param <R> The type of the result of the mapping function
+   * @return new instance of {@link TryPipeline}
+   * @see Try#map(ThrowingFunction)
+   */
+  @Contract("_ -> new")
+  public <R> @NotNull TryPipeline<I, R> map(final ThrowingFunction<? super O, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper cannot be null.");
+    return this.append(TryPipeline.MAP, mapper);
+  }
+
+  /**
+   * Appends a filtering stage.
+   *
+   * @param predicate the predicate to apply to the result.
+   * @return new instance of {@link TryPipeline}
+   * @see Try#filter(Predicate)
+   */
+  @Contract("_ -> new")
+  public @NotNull TryPipeline<I, O> filter(final Predicate<? super O> predicate) {
+    Objects.requireNonNull(predicate, "Filter Predicate cannot be null.");
+    return this.append(TryPipeline.FILTER, predicate);
+  }
+
+  /**
+   * Appends a stage performing an action on the result.
+   *
+   * @param acceptor the action to be performed on the result.
+   * @return new instance of {@link TryPipeline}
+   * @see Try#peek(Accepter)
+   */
+  @Contract("_ -> new")
+  public @NotNull TryPipeline<I, O> peek(final Accepter<? super O> acceptor) {
+    Objects.requireNonNull(acceptor, "Accepter cannot be null.");
+    return this.append(TryPipeline.PEEK, acceptor);
+  }
+
+  /**
+   * Runs every stage of the pipeline on the given input.
+   *
+   * @param input the input to the pipeline
+   * @return a successful {@link Try} with the result of the last stage, an empty {@link Try} if a
+   *     filter condition is not met, otherwise a failed {@link Try} with the exception thrown.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull Try<O> apply(final I input) {
+    final byte[] kinds = this.kinds;
+    final Object[] operations = this.operations;
+    Object current = input;
+    try {
+      for (int i = 0; i < kinds.length; i++) {
+        switch (kinds[i]) {
+          case MAP:
+            current = ((ThrowingFunction<Object, Object>) operations[i]).apply(current);
+            break;
+          case FILTER:
+            if (!((Predicate<Object>) operations[i]).test(current)) {
+              return Try.emptySuccess();
+            }
+            break;
+          default:
+            ((Accepter<Object>) operations[i]).accept(current);
+            break;
+        }
+      }
+    } catch (final Exception e) {
+      return Try.failure(e);
+    }
+    return Try.success((O) current);
+  }
+
+  /**
+   * Runs every stage of the pipeline on the result of the given {@link Try}.
+   *
+   * @param input the {@link Try} whose result is the input to the pipeline
+   * @return the outcome of {@link TryPipeline#apply(Object)} if {@code input} has a result,
+   *     otherwise a {@link Try} in the same state as {@code input}.
+   */
+  public @NotNull Try<O> applyTo(final @NotNull Try<? extends I> input) {
+    Objects.requireNonNull(input, "input cannot be null");
+    if (input.isFailure()) {
+      return Try.failure(input.getCause());
+    }
+    return input.isResult() && input.isNotEmpty() ? this.apply(input.get()) : Try.emptySuccess();
+  }
+
+  /**
+   * Use to get the number of stages in the pipeline.
+   *
+   * @return the number of stages
+   */
+  @Contract(pure = true)
+  public int size() {
+    return this.kinds.length;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public @NotNull String toString() {
+    return "TryPipeline{" + "stages=" + this.kinds.length + '}';
+  }
+}
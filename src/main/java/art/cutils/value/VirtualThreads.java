@@ -0,0 +1,96 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gives access to virtual threads, on runtimes providing them (Java 21+), while the library keeps
+ * Java 8 as its baseline.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class VirtualThreads {
+
+  /** {@code Executors.newVirtualThreadPerTaskExecutor()}, {@code null} if unavailable. */
+  private static final MethodHandle FACTORY = VirtualThreads.lookup();
+
+  /** Locked for life. */
+  @Contract(pure = true)
+  private VirtualThreads() {}
+
+  /**
+   * Looks up the virtual thread executor factory.
+   *
+   * @return the factory, {@code null} if the runtime has no virtual threads
+   */
+  private static MethodHandle lookup() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (final ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Use to check whether the runtime provides virtual threads.
+   *
+   * @return {@code true} if virtual threads are available, else {@code false}
+   */
+  @Contract(pure = true)
+  static boolean isAvailable() {
+    return Objects.nonNull(VirtualThreads.FACTORY);
+  }
+
+  /**
+   * Creates an {@link ExecutorService} starting a new virtual thread for each task.
+   *
+   * @return new instance of {@link ExecutorService}
+   * @throws UnsupportedOperationException if the runtime has no virtual threads
+   */
+  static @NotNull ExecutorService newExecutor() {
+    if (!VirtualThreads.isAvailable()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or newer.");
+    }
+    try {
+      return (ExecutorService) VirtualThreads.FACTORY.invokeExact();
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package art.cutils.value;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * The serialized form of {@link Try}, {@link Pair} and {@link Que}. Each of them is replaced by a
+ * {@link Wire} when written, which encodes it as a tag byte followed by its values, and is resolved
+ * back when read. Common value types, i.e. {@link String} and boxed primitives, are written as tag
+ * bytes and raw data rather than objects with class descriptors.
+ *
+ * <p>A failed {@link Try} keeps the type and message of its cause: on reading, the cause is
+ * described by a {@link Try.Reason} whose code is the name of the type, or the code of the {@link
+ * Try.Reason} written. No type named in the stream is ever loaded or instantiated.
+ *
+ * @author <a href="https://github.com/bobaikato">Bobai Kato</a>
+ * @since v2.8
+ */
+final class Wire implements Externalizable {
+  private static final long serialVersionUID = 7425026480187453521L;
+
+  /** A successful {@link Try} without a result. */
+  private static final byte TRY_VOID = 1;
+
+  /** A successful {@link Try} whose filter condition is not met. */
+  private static final byte TRY_EMPTY = 2;
+
+  /** A successful {@link Try} with a result. */
+  private static final byte TRY_RESULT = 3;
+
+  /** A failed {@link Try}, read back with a {@link Try.Reason} cause. */
+  private static final byte TRY_FAILURE = 4;
+
+  /** A failed {@link Try} with a {@link Try.Reason} cause. */
+  private static final byte TRY_REASON = 5;
+
+  /** A {@link Pair}. */
+  private static final byte PAIR = 6;
+
+  /** A {@link Que}. */
+  private static final byte QUE = 7;
+
+  /** A {@code null} value. */
+  private static final byte NULL = 0;
+
+  /** A {@link String} value. */
+  private static final byte STRING = 1;
+
+  /** An {@link Integer} value. */
+  private static final byte INTEGER = 2;
+
+  /** A {@link Long} value. */
+  private static final byte LONG = 3;
+
+  /** A {@link Double} value. */
+  private static final byte DOUBLE = 4;
+
+  /** A {@link Boolean} value. */
+  private static final byte BOOLEAN = 5;
+
+  /** Any other value, written as an object. */
+  private static final byte OBJECT = 6;
+
+  /** The longest {@link String} written with {@link ObjectOutput#writeUTF(String)}. */
+  private static final int MAX_UTF = 65535 / 3;
+
+  /** The object written or read. */
+  private Object object;
+
+  /** Public no-arg constructor, required by {@link Externalizable}. */
+  @Contract(pure = true)
+  public Wire() {}
+
+  /**
+   * Constructs the serialized form of the given object.
+   *
+   * @param object the {@link Try}, {@link Pair} or {@link Que} to write
+   */
+  @Contract(pure = true)
+  Wire(final Object object) {
+    this.object = object;
+  }
+
+  /**
+   * Writes a value, compactly for common types.
+   *
+   * @param out the stream to write to
+   * @param value the value to write
+   * @throws IOException if an I/O error occurs
+   */
+  private static void writeValue(final ObjectOutput out, final Object value) throws IOException {
+    if (Objects.isNull(value)) {
+      out.writeByte(Wire.NULL);
+    } else if (value instanceof String && ((String) value).length() <= Wire.MAX_UTF) {
+      out.writeByte(Wire.STRING);
+      out.writeUTF((String) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(Wire.INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(Wire.LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      out.writeByte(Wire.DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte(Wire.BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    } else {
+      out.writeByte(Wire.OBJECT);
+      out.writeObject(value);
+    }
+  }
+
+  /**
+   * Reads a value written by {@link Wire#writeValue(ObjectOutput, Object)}.
+   *
+   * @param in the stream to read from
+   * @return the value read
+   * @throws IOException if an I/O error occurs
+   * @throws ClassNotFoundException if the class of an object cannot be found
+   */
+  private static Object readValue(final ObjectInput in)
+      throws IOException, ClassNotFoundException {
+    final byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case STRING:
+        return in.readUTF();
+      case INTEGER:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case DOUBLE:
+        return in.readDouble();
+      case BOOLEAN:
+        return in.readBoolean();
+      case OBJECT:
+        return in.readObject();
+      default:
+        throw new StreamCorruptedException("Unknown value tag: " + tag);
+    }
+  }
+
+  /**
+   * Reads a {@link String} written by {@link Wire#writeValue(ObjectOutput, Object)}.
+   *
+   * @param in the stream to read from
+   * @return the {@link String} read, possibly {@code null}
+   * @throws IOException if an I/O error occurs, or if the value read is not a {@link String}
+   * @throws ClassNotFoundException if the class of an object cannot be found
+   */
+  private static String readString(final ObjectInput in)
+      throws IOException, ClassNotFoundException {
+    final Object value = Wire.readValue(in);
+    if (Objects.nonNull(value) && !(value instanceof String)) {
+      throw new InvalidObjectException("Expected a String, found: " + value.getClass().getName());
+    }
+    return (String) value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    if (this.object instanceof Try) {
+      final Try<?> result = (Try<?>) this.object;
+      if (result.isFailure()) {
+        final Throwable cause = result.getCause();
+        if (cause instanceof Try.Reason) {
+          out.writeByte(Wire.TRY_REASON);
+          Wire.writeValue(out, ((Try.Reason) cause).getCode());
+        } else {
+          out.writeByte(Wire.TRY_FAILURE);
+          Wire.writeValue(out, cause.getClass().getName());
+        }
+        Wire.writeValue(out, cause.getMessage());
+      } else if (result.isResult()) {
+        out.writeByte(Wire.TRY_RESULT);
+        Wire.writeValue(out, result.get());
+      } else {
+        out.writeByte(result.isEmpty() ? Wire.TRY_EMPTY : Wire.TRY_VOID);
+      }
+    } else if (this.object instanceof Pair) {
+      final Pair<?, ?> pair = (Pair<?, ?>) this.object;
+      out.writeByte(Wire.PAIR);
+      Wire.writeValue(out, pair.getFirst());
+      Wire.writeValue(out, pair.getSecond());
+    } else if (this.object instanceof Que) {
+      out.writeByte(Wire.QUE);
+      Wire.writeValue(out, ((Que<?>) this.object).get());
+    } else {
+      throw new InvalidObjectException("Unsupported type: " + this.object);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte tag = in.readByte();
+    switch (tag) {
+      case TRY_VOID:
+        this.object = Try.voidSuccess();
+        break;
+      case TRY_EMPTY:
+        this.object = Try.emptySuccess();
+        break;
+      case TRY_RESULT:
+        this.object = Try.success(Wire.readValue(in));
+        break;
+      case TRY_FAILURE:
+      case TRY_REASON:
+        final String code = Wire.readString(in);
+        this.object = Try.failFast(Try.Reason.of(code, Wire.readString(in)));
+        break;
+      case PAIR:
+        final Object first = Wire.readValue(in);
+        this.object = Pair.of(first, Wire.readValue(in));
+        break;
+      case QUE:
+        this.object = Que.of(Wire.readValue(in));
+        break;
+      default:
+        throw new StreamCorruptedException("Unknown tag: " + tag);
+    }
+  }
+
+  /**
+   * Resolves to the object read.
+   *
+   * @return the {@link Try}, {@link Pair} or {@link Que} read
+   */
+  private Object readResolve() {
+    return this.object;
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.AsyncQue;
+import art.cutils.value.Que;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncQueTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void testStagesRunOnExecutor() {
+    final AtomicInteger ran = new AtomicInteger();
+
+    final String result =
+        AsyncQue.of(() -> 5, this.executor)
+            .map(value -> value * 2)
+            .andRun(ran::incrementAndGet)
+            .andConsume(value -> ran.addAndGet(value))
+            .map(String::valueOf)
+            .get();
+
+    assertEquals("10", result);
+    assertEquals(11, ran.get());
+  }
+
+  @Test
+  void testStagesDoNotBlockCaller() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final CompletableFuture<Integer> future =
+        Que.of(1)
+            .async(this.executor)
+            .andCall(
+                () -> {
+                  latch.await();
+                  return 2;
+                })
+            .andSupply(() -> 3)
+            .completableFuture();
+
+    assertFalse(future.isDone());
+    latch.countDown();
+    assertEquals(3, future.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testFailedStageSkipsTheRest() {
+    final AtomicInteger ran = new AtomicInteger();
+
+    final AsyncQue<Integer> failed =
+        AsyncQue.<Integer>of(() -> 1, this.executor)
+            .andCall(
+                () -> {
+                  throw new IOException("unavailable");
+                })
+            .andRun(ran::incrementAndGet);
+
+    final CompletionException ex = assertThrows(CompletionException.class, failed::get);
+    assertInstanceOf(IOException.class, ex.getCause());
+    assertEquals(0, ran.get());
+    assertTrue(failed.tryFuture().get().isFailure());
+  }
+
+  @Test
+  void testBoundedInFlightStages() {
+    final Executor lane = AsyncQue.bounded(this.executor, 2);
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+
+    final List<CompletableFuture<Integer>> futures =
+        IntStream.range(0, 20)
+            .mapToObj(
+                i ->
+                    AsyncQue.of(() -> i, lane)
+                        .map(
+                            value -> {
+                              peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                              try {
+                                Thread.sleep(5);
+                              } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                              }
+                              inFlight.decrementAndGet();
+                              return value * value;
+                            })
+                        .completableFuture())
+            .collect(Collectors.toList());
+
+    assertEquals(
+        IntStream.range(0, 20).map(i -> i * i).sum(),
+        futures.stream().mapToInt(CompletableFuture::join).sum());
+    assertTrue(peak.get() <= 2);
+  }
+
+  @Test
+  void testBoundedRequeuesRejectedTasks() throws InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch rejected = new CountDownLatch(1);
+    final AtomicReference<Throwable> escaped = new AtomicReference<>();
+    final Executor delegate =
+        task -> {
+          if (calls.incrementAndGet() == 2) {
+            rejected.countDown();
+            throw new RejectedExecutionException("busy");
+          }
+          this.executor.execute(
+              () -> {
+                try {
+                  task.run();
+                } catch (final Throwable t) {
+                  escaped.set(t);
+                }
+              });
+        };
+    final Executor lane = AsyncQue.bounded(delegate, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(3);
+    final List<String> order = new CopyOnWriteArrayList<>();
+
+    lane.execute(
+        () -> {
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          order.add("a");
+          done.countDown();
+        });
+    lane.execute(
+        () -> {
+          order.add("b");
+          done.countDown();
+        });
+    release.countDown();
+
+    assertTrue(rejected.await(5, TimeUnit.SECONDS));
+    lane.execute(
+        () -> {
+          order.add("c");
+          done.countDown();
+        });
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("a", "b", "c"), order);
+    assertNull(escaped.get());
+  }
+
+  @Test
+  void testBoundedReportsRejectionToSubmitter() {
+    final Executor lane =
+        AsyncQue.bounded(
+            task -> {
+              throw new RejectedExecutionException("shut down");
+            },
+            2);
+    final AtomicInteger ran = new AtomicInteger();
+
+    assertThrows(RejectedExecutionException.class, () -> lane.execute(ran::incrementAndGet));
+    assertThrows(RejectedExecutionException.class, () -> lane.execute(ran::incrementAndGet));
+    assertEquals(0, ran.get());
+  }
+
+  @Test
+  void testDefaultExecutor() {
+    assertEquals(4, AsyncQue.of(() -> 2).map(value -> value * 2).get());
+    assertThrows(IllegalArgumentException.class, () -> AsyncQue.bounded(this.executor, 0));
+  }
+}
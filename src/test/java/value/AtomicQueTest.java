@@ -0,0 +1,90 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.AtomicQue;
+import art.cutils.value.Que;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class AtomicQueTest {
+
+  @Test
+  void testFluentUpdates() throws Exception {
+    final AtomicInteger ran = new AtomicInteger();
+
+    final AtomicQue<Integer> que =
+        AtomicQue.of(1)
+            .update(value -> value + 1)
+            .accumulate(10, Integer::sum)
+            .andRun(ran::incrementAndGet)
+            .andConsume(ran::addAndGet);
+
+    assertEquals(12, que.get());
+    assertEquals(13, ran.get());
+    assertEquals(7, que.andSupply(() -> 5).andDeal(() -> 6).andCall(() -> 7).get());
+    assertEquals("7", que.map(String::valueOf).get());
+    assertEquals(Integer.valueOf(7), AtomicQue.from(Que.of(7)).get());
+  }
+
+  @Test
+  void testCompareAndSet() {
+    final String initial = "initial";
+    final AtomicQue<String> que = AtomicQue.of(initial);
+
+    assertFalse(que.compareAndSet("other", "next"));
+    assertTrue(que.compareAndSet(initial, "next"));
+    assertEquals("next", que.getAndSet("last"));
+    assertEquals("last", que.getAndUpdate(value -> value + "!"));
+    assertEquals("last!", que.updateAndGet(String::trim));
+    assertEquals("last!?", que.accumulateAndGet("?", String::concat));
+    assertFalse(AtomicQue.of(() -> null).optional().isPresent());
+  }
+
+  @Test
+  void testConcurrentUpdates() throws InterruptedException {
+    final AtomicQue<Integer> counter = AtomicQue.of(0);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    for (int i = 0; i < 8; i++) {
+      executor.execute(
+          () -> {
+            for (int j = 0; j < 1_000; j++) {
+              counter.update(value -> value + 1);
+            }
+          });
+    }
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(8_000, counter.get());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Pair;
+import art.cutils.value.Que;
+import art.cutils.value.Try;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Compact serialization test.")
+final class CompactSerializationTest {
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundtrip(final Object object) {
+    return (T) SerializationUtils.roundtrip((Serializable) object);
+  }
+
+  @Test
+  void testSuccessfulTryRoundtrip() {
+    final Try<Integer> result = roundtrip(Try.of(() -> 25));
+    assertTrue(result.isResult());
+    assertEquals(25, result.get());
+
+    final Try<LocalDate> date = roundtrip(Try.of(() -> LocalDate.of(2021, 11, 13)));
+    assertEquals(LocalDate.of(2021, 11, 13), date.get());
+
+    assertSame(Try.of(() -> {}), roundtrip(Try.of(() -> {})));
+    final Try<Integer> empty = Try.of(() -> 25).filter(value -> value < 0);
+    assertSame(empty, roundtrip(empty));
+    assertEquals(7, CompactSerializationTest.<Try<Integer>>roundtrip(Try.lazy(() -> 7)).get());
+  }
+
+  @Test
+  void testFailedTryKeepsCause() {
+    final Try<Integer> failed = roundtrip(Try.of(() -> Integer.parseInt("2F")));
+    assertTrue(failed.isFailure());
+    assertInstanceOf(Try.Reason.class, failed.getCause());
+    assertEquals(
+        NumberFormatException.class.getName(), ((Try.Reason) failed.getCause()).getCode());
+    assertEquals("For input string: \"2F\"", failed.getCause().getMessage());
+
+    final Try<Integer> reason = roundtrip(Try.failFast(Try.Reason.of("blank", "cannot be blank")));
+    assertInstanceOf(Try.Reason.class, reason.getCause());
+    assertEquals("blank", ((Try.Reason) reason.getCause()).getCode());
+    assertEquals("cannot be blank", reason.getCause().getMessage());
+  }
+
+  @Test
+  void testFailedTryNeverInstantiatesCauseType() {
+    final Try<Object> failed =
+        Try.of(
+            () -> {
+              throw new CountingException("boom");
+            });
+    final int created = CountingException.created;
+
+    final Try<Object> read = roundtrip(failed);
+
+    assertEquals(created, CountingException.created);
+    assertInstanceOf(Try.Reason.class, read.getCause());
+    assertEquals(CountingException.class.getName(), ((Try.Reason) read.getCause()).getCode());
+    assertEquals("boom", read.getCause().getMessage());
+  }
+
+  @Test
+  void testFailedTryWithLongCode() {
+    final char[] chars = new char[70_000];
+    Arrays.fill(chars, 'x');
+    final String code = new String(chars);
+
+    final Try<Object> read = roundtrip(Try.failFast(Try.Reason.of(code, "long")));
+
+    assertEquals(code, ((Try.Reason) read.getCause()).getCode());
+    assertEquals("long", read.getCause().getMessage());
+  }
+
+  @Test
+  void testPairAndQueRoundtrip() {
+    final Pair<String, Long> pair = Pair.of("id", 5L);
+    assertEquals(pair, roundtrip(pair));
+    assertEquals(Pair.empty(), roundtrip(Pair.empty()));
+
+    final Que<Object> que = Que.of(Arrays.asList(1, 2, 3));
+    assertEquals(que, roundtrip(que));
+    assertNull(CompactSerializationTest.<Que<Object>>roundtrip(Que.of((Object) null)).get());
+  }
+
+  @Test
+  void testCompactness() {
+    final byte[] compact = SerializationUtils.serialize(Pair.of("id", 5));
+    final byte[] plain = SerializationUtils.serialize(new Object[] {"id", 5});
+
+    assertTrue(compact.length < plain.length);
+  }
+
+  public static final class CountingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private static int created;
+
+    public CountingException(final String message) {
+      super(message);
+      CountingException.created++;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Pools;
+import art.cutils.value.Syndicate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class PoolsTest {
+
+  @Test
+  void testNamedPoolIsReferenceCounted() throws Exception {
+    final ExecutorService first = Pools.lease("pools-test", 2);
+    final ExecutorService second = Pools.lease("pools-test", 2);
+    assertEquals(2, Pools.leases("pools-test"));
+    assertThrows(IllegalArgumentException.class, () -> Pools.lease("pools-test", 3));
+    assertThrows(IllegalArgumentException.class, () -> Pools.lease("pools-test", 0));
+
+    final String thread = first.submit(() -> Thread.currentThread().getName()).get();
+    assertTrue(thread.startsWith("cutils-pools-test-"));
+
+    first.shutdown();
+    assertTrue(first.isShutdown());
+    assertTrue(first.awaitTermination(1, TimeUnit.SECONDS));
+    assertThrows(RejectedExecutionException.class, () -> first.execute(() -> {}));
+    assertEquals(1, Pools.leases("pools-test"));
+    final Future<String> next = second.submit(() -> Thread.currentThread().getName());
+    assertTrue(next.get().startsWith("cutils-pools-test-"));
+
+    second.shutdown();
+    assertEquals(0, Pools.leases("pools-test"));
+  }
+
+  @Test
+  void testLeaseTerminatesWithItsTasks() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService lease = Pools.shared();
+
+    lease.execute(
+        () -> {
+          try {
+            release.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    lease.shutdown();
+
+    assertFalse(lease.isTerminated());
+    release.countDown();
+    assertTrue(lease.awaitTermination(1, TimeUnit.SECONDS));
+    assertNotEquals(lease, Pools.shared());
+  }
+
+  @Test
+  void testSyndicatesShareThreads() throws Exception {
+    final Set<String> threads = new HashSet<>();
+
+    try (final Syndicate<String> owner = Syndicate.init("pools-syndicate", 1)) {
+      for (int i = 0; i < 5; i++) {
+        try (final Syndicate<String> syndicate = Syndicate.init("pools-syndicate", 1)) {
+          final List<Future<String>> futures =
+              syndicate.add(() -> Thread.currentThread().getName()).apply().execute().get().get();
+          threads.add(futures.get(0).get());
+        }
+      }
+      assertEquals(1, Pools.leases("pools-syndicate"));
+    }
+
+    assertEquals(0, Pools.leases("pools-syndicate"));
+    assertEquals(1, threads.size());
+    assertTrue(threads.iterator().next().startsWith("cutils-pools-syndicate-"));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.DoubleTry;
+import art.cutils.value.IntTry;
+import art.cutils.value.LongTry;
+import art.cutils.value.Try;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Primitive Try Operation test.")
+final class PrimitiveTryTest {
+
+  @Test
+  void testIntTryWithResult() {
+    final IntTry parsed = IntTry.of(() -> Integer.parseInt("0025"));
+
+    assertTrue(parsed.isSuccess());
+    assertTrue(parsed.isNotEmpty());
+    assertEquals(25, parsed.getAsInt());
+    assertEquals(50, parsed.map(value -> value * 2).orElse(0));
+    assertEquals("25", parsed.mapToObj(String::valueOf).get());
+    assertEquals(25, parsed.boxed().get());
+    assertEquals(parsed, IntTry.success(25));
+
+    final AtomicInteger seen = new AtomicInteger();
+    parsed.onSuccess(seen::set).onFailure(cause -> seen.set(-1));
+    assertEquals(25, seen.get());
+  }
+
+  @Test
+  void testIntTryWithFailure() {
+    final IntTry parsed = IntTry.of(() -> Integer.parseInt("2F"));
+
+    assertTrue(parsed.isFailure());
+    assertTrue(parsed.isEmpty());
+    assertInstanceOf(NumberFormatException.class, parsed.getCause());
+    assertEquals(7, parsed.map(value -> value * 2).orElse(7));
+    assertEquals(7, parsed.orElseGet(() -> 7));
+    assertTrue(parsed.mapToObj(String::valueOf).isFailure());
+    assertTrue(parsed.boxed().isFailure());
+    assertThrows(UnsupportedOperationException.class, parsed::getAsInt);
+    assertThrows(
+        IllegalArgumentException.class, () -> parsed.orElseThrow(IllegalArgumentException::new));
+  }
+
+  @Test
+  void testIntTryWithUnmetFilter() {
+    final IntTry filtered = IntTry.success(25).filter(value -> value < 0);
+
+    final AtomicInteger empty = new AtomicInteger();
+    filtered.onEmpty(empty::incrementAndGet);
+
+    assertTrue(filtered.isSuccess());
+    assertTrue(filtered.isEmpty());
+    assertEquals(1, empty.get());
+    assertEquals(-1, filtered.orElse(-1));
+    assertThrows(IllegalStateException.class, filtered::getAsInt);
+    assertTrue(filtered.boxed().isEmpty());
+    assertNotEquals(filtered, IntTry.success(25));
+  }
+
+  @Test
+  void testConversionFromTry() {
+    assertEquals(25, IntTry.from(Try.of(() -> 25)).getAsInt());
+    assertEquals(25L, LongTry.from(Try.of(() -> 25)).getAsLong());
+    assertTrue(IntTry.from(Try.of(() -> Integer.parseInt("2F"))).isFailure());
+    assertTrue(IntTry.from(Try.of(() -> (Integer) null)).isEmpty());
+    assertTrue(DoubleTry.from(Try.of(() -> 2.5).filter(value -> value > 3)).isEmpty());
+  }
+
+  @Test
+  void testConversionFromTryDoesNotTruncate() {
+    assertEquals(7, IntTry.from(Try.of(() -> 7.0)).getAsInt());
+    assertEquals(7L, LongTry.from(Try.of(() -> new BigDecimal("7.00"))).getAsLong());
+    assertEquals(Long.MIN_VALUE, LongTry.from(Try.of(() -> -0x1p63)).getAsLong());
+
+    assertInstanceOf(ArithmeticException.class, IntTry.from(Try.of(() -> 1L << 32)).getCause());
+    assertInstanceOf(ArithmeticException.class, IntTry.from(Try.of(() -> 2.5)).getCause());
+    assertInstanceOf(ArithmeticException.class, LongTry.from(Try.of(() -> 0x1p63)).getCause());
+    assertInstanceOf(ArithmeticException.class, LongTry.from(Try.of(() -> Double.NaN)).getCause());
+    assertInstanceOf(
+        ArithmeticException.class,
+        LongTry.from(Try.of(() -> BigInteger.ONE.shiftLeft(64))).getCause());
+    assertInstanceOf(
+        ArithmeticException.class, LongTry.from(Try.of(() -> new BigDecimal("1.5"))).getCause());
+  }
+
+  @Test
+  void testLongAndDoubleTry() {
+    assertEquals(
+        4_000_000_000L, LongTry.of(() -> Long.parseLong("2000000000")).map(v -> v * 2).getAsLong());
+    assertEquals(0L, LongTry.of(() -> Long.parseLong("x")).orElse(0L));
+
+    assertEquals(1.25, DoubleTry.of(() -> Double.parseDouble("2.5")).map(v -> v / 2).getAsDouble());
+    assertEquals(DoubleTry.success(Double.NaN), DoubleTry.success(Double.NaN));
+    assertTrue(DoubleTry.of(() -> Double.parseDouble("x")).isFailure());
+  }
+}
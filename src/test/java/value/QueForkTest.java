@@ -0,0 +1,254 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Que;
+import art.cutils.value.Traversal;
+import art.cutils.value.Try;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class QueForkTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void testForkJoinsInBranchOrder() {
+    final Try<List<Integer>> joined =
+        Que.of(3).fork(value -> value + 1, value -> value * 2, value -> value * value);
+
+    assertTrue(joined.isResult());
+    assertEquals(Arrays.asList(4, 6, 9), joined.get());
+    assertEquals(0, Que.of(3).<Integer>fork().get().size());
+  }
+
+  @Test
+  void testForkWithVoidCompatibleLambdas() {
+    final Try<List<Integer>> joined = Que.of("ab").fork(s -> s.length(), s -> s.hashCode());
+
+    assertEquals(Arrays.asList(2, "ab".hashCode()), joined.get());
+  }
+
+  @Test
+  void testBranchesRunConcurrently() {
+    final CountDownLatch latch = new CountDownLatch(3);
+    final Function<Integer, Integer> branch =
+        value -> {
+          latch.countDown();
+          try {
+            return latch.await(5, TimeUnit.SECONDS) ? value : -1;
+          } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+          }
+        };
+
+    final Try<List<Integer>> joined = Que.of(1).forkOn(this.executor, branch, branch, branch);
+
+    assertEquals(Arrays.asList(1, 1, 1), joined.get());
+  }
+
+  @Test
+  void testFailFastInterruptsRunningBranches() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final Try<List<Object>> joined =
+        Que.of("x")
+            .forkOn(
+                this.executor,
+                Traversal.Mode.FAIL_FAST,
+                5,
+                TimeUnit.SECONDS,
+                value -> {
+                  started.countDown();
+                  try {
+                    new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                  } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                  }
+                  return value;
+                },
+                value -> {
+                  try {
+                    started.await(5, TimeUnit.SECONDS);
+                  } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  throw new IllegalArgumentException(value);
+                });
+
+    assertTrue(joined.isFailure());
+    assertInstanceOf(IllegalArgumentException.class, joined.getCause());
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testQueuedBranchesNeverRunAfterFailFast() throws InterruptedException {
+    final ExecutorService single = Executors.newSingleThreadExecutor();
+    final AtomicInteger laterBranchesRan = new AtomicInteger();
+    final Function<String, Object> later = value -> laterBranchesRan.incrementAndGet();
+    try {
+      final Try<List<Object>> joined =
+          Que.of("x")
+              .forkOn(
+                  single,
+                  value -> {
+                    try {
+                      TimeUnit.MILLISECONDS.sleep(50);
+                    } catch (final InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalArgumentException(value);
+                  },
+                  later,
+                  later,
+                  later);
+
+      assertInstanceOf(IllegalArgumentException.class, joined.getCause());
+    } finally {
+      single.shutdown();
+    }
+    assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(0, laterBranchesRan.get());
+  }
+
+  @Test
+  void testQueuedBranchesNeverRunAfterTimeout() throws InterruptedException {
+    final ExecutorService single = Executors.newSingleThreadExecutor();
+    final AtomicInteger laterBranchesRan = new AtomicInteger();
+    final Function<Integer, Object> later = value -> laterBranchesRan.incrementAndGet();
+    try {
+      final Try<List<Object>> joined =
+          Que.of(1)
+              .forkOn(
+                  single,
+                  Traversal.Mode.COLLECT_ALL,
+                  50,
+                  TimeUnit.MILLISECONDS,
+                  value -> {
+                    try {
+                      return new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                      return false;
+                    }
+                  },
+                  later,
+                  later);
+
+      assertInstanceOf(TimeoutException.class, joined.getCause());
+    } finally {
+      single.shutdown();
+    }
+    assertTrue(single.awaitTermination(1, TimeUnit.SECONDS));
+    assertEquals(0, laterBranchesRan.get());
+  }
+
+  @Test
+  void testCollectAll() {
+    final IllegalArgumentException first = new IllegalArgumentException("first");
+    for (int i = 0; i < 2; i++) {
+      final Try<List<String>> joined =
+          Que.of("x")
+              .forkOn(
+                  this.executor,
+                  Traversal.Mode.COLLECT_ALL,
+                  0,
+                  TimeUnit.SECONDS,
+                  value -> {
+                    throw first;
+                  },
+                  value -> value,
+                  value -> {
+                    throw new IllegalStateException("second");
+                  });
+
+      assertTrue(joined.isFailure());
+      assertInstanceOf(CompletionException.class, joined.getCause());
+      assertSame(first, joined.getCause().getCause());
+      assertEquals(1, joined.getCause().getSuppressed().length);
+      assertInstanceOf(IllegalStateException.class, joined.getCause().getSuppressed()[0]);
+    }
+    assertEquals(0, first.getSuppressed().length);
+  }
+
+  @Test
+  void testCollectAllWithSingleFailure() {
+    final Try<List<String>> joined =
+        Que.of("x")
+            .forkOn(
+                this.executor,
+                Traversal.Mode.COLLECT_ALL,
+                0,
+                TimeUnit.SECONDS,
+                value -> value,
+                value -> {
+                  throw new IllegalStateException(value);
+                });
+
+    assertInstanceOf(IllegalStateException.class, joined.getCause());
+  }
+
+  @Test
+  void testTimeout() {
+    final CountDownLatch never = new CountDownLatch(1);
+    final Try<List<Boolean>> joined =
+        Que.of(1)
+            .forkOn(
+                this.executor,
+                Traversal.Mode.FAIL_FAST,
+                50,
+                TimeUnit.MILLISECONDS,
+                value -> {
+                  try {
+                    return never.await(5, TimeUnit.SECONDS);
+                  } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                  }
+                });
+
+    assertTrue(joined.isFailure());
+    assertInstanceOf(TimeoutException.class, joined.getCause());
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Que;
+import art.cutils.value.QueProgram;
+import art.cutils.value.Try;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class QueProgramTest {
+
+  @Test
+  void testProgramMatchesQueChain() throws Exception {
+    final List<Object> seen = new ArrayList<>();
+    final AtomicInteger ran = new AtomicInteger();
+
+    final QueProgram<String, Integer> program =
+        Que.<String>program()
+            .map(String::trim)
+            .andConsume(seen::add)
+            .map(Integer::parseInt)
+            .andAccept(seen::add)
+            .andRun(ran::incrementAndGet)
+            .andExecute(ran::incrementAndGet)
+            .map(value -> value * 2);
+
+    assertEquals(7, program.size());
+    assertEquals(42, program.run(" 21 "));
+    assertEquals(10, program.run("5"));
+    assertEquals(4, ran.get());
+
+    final Integer expected =
+        Que.of(" 21 ")
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .map(value -> value * 2)
+            .get();
+    assertEquals(expected, program.run(" 21 "));
+    assertEquals("[21, 21, 5, 5, 21, 21]", seen.toString());
+  }
+
+  @Test
+  void testReplacingSteps() throws Exception {
+    final QueProgram<Integer, Integer> program =
+        Que.<Integer>program().andSupply(() -> 1).andDeal(() -> 2).andCall(() -> 3);
+
+    assertEquals(3, program.run(0));
+    assertSame(Que.<Integer>program(), Que.<String>program());
+    assertEquals("x", Que.<String>program().run("x"));
+  }
+
+  @Test
+  void testFailedStep() {
+    final AtomicInteger ran = new AtomicInteger();
+    final QueProgram<String, String> program =
+        Que.<String>program()
+            .andCall(
+                () -> {
+                  throw new IOException("unavailable");
+                })
+            .andRun(ran::incrementAndGet);
+
+    assertThrows(IOException.class, () -> program.run("x"));
+    final Try<String> attempt = program.attempt("x");
+    assertTrue(attempt.isFailure());
+    assertInstanceOf(IOException.class, attempt.getCause());
+    assertEquals(0, ran.get());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.RecoveryTable;
+import art.cutils.value.Try;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try recovery test.")
+final class RecoveryTableTest {
+
+  private final RecoveryTable<String> table =
+      RecoveryTable.<String>init()
+          .on(FileNotFoundException.class, cause -> "missing")
+          .on(IOException.class, cause -> "io: " + cause.getMessage())
+          .on(NumberFormatException.class, cause -> Integer.parseInt("x") + "");
+
+  @Test
+  void testRecoverWithClass() {
+    final Try<Integer> recovered =
+        Try.of(() -> Integer.parseInt("2F"))
+            .recover(IllegalStateException.class, cause -> -2)
+            .recover(IllegalArgumentException.class, cause -> -1);
+
+    assertEquals(-1, recovered.get());
+
+    final Try<Integer> success = Try.of(() -> 1);
+    assertSame(success, success.recover(Exception.class, cause -> -1));
+  }
+
+  @Test
+  void testRecoverWithTableMatchesInOrder() {
+    assertEquals("missing", this.fail(new FileNotFoundException("a")).recover(this.table).get());
+    assertEquals("io: b", this.fail(new IOException("b")).recover(this.table).get());
+    assertEquals(3, this.table.size());
+    assertTrue(this.table.handles(FileNotFoundException.class));
+    assertFalse(this.table.handles(TimeoutException.class));
+  }
+
+  @Test
+  void testRecoverWithTableLeavesUnhandledFailures() {
+    final Try<String> timeout = this.fail(new TimeoutException());
+    assertSame(timeout, timeout.recover(this.table));
+
+    final Try<String> success = Try.of(() -> "ok");
+    assertSame(success, this.table.recover(success));
+  }
+
+  @Test
+  void testRecoverWithFailingHandler() {
+    final Try<String> failed = this.fail(new NumberFormatException()).recover(this.table);
+
+    assertTrue(failed.isFailure());
+    assertInstanceOf(NumberFormatException.class, failed.getCause());
+  }
+
+  private Try<String> fail(final Exception cause) {
+    return Try.of(
+        () -> {
+          throw cause;
+        });
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.RetryPolicy;
+import art.cutils.value.Try;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try retry test.")
+final class RetryPolicyTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  private int flaky(final int failures) throws IOException {
+    if (this.attempts.incrementAndGet() <= failures) {
+      throw new IOException("attempt " + this.attempts.get());
+    }
+    return this.attempts.get();
+  }
+
+  @Test
+  void testRetryUntilSuccess() {
+    final Try<Integer> result =
+        Try.retry(() -> this.flaky(2), RetryPolicy.fixed(1, TimeUnit.MILLISECONDS));
+
+    assertTrue(result.isSuccess());
+    assertEquals(3, result.get());
+  }
+
+  @Test
+  void testRetryStopsAtMaxAttempts() {
+    final Try<Integer> result =
+        Try.retry(
+            () -> this.flaky(10),
+            RetryPolicy.exponential(1, 4, TimeUnit.MILLISECONDS).maxAttempts(4));
+
+    assertTrue(result.isFailure());
+    assertEquals("attempt 4", result.getCause().getMessage());
+    assertEquals(4, this.attempts.get());
+  }
+
+  @Test
+  void testRetryOnlyRetryableFailures() {
+    final Try<Integer> result =
+        Try.retry(
+            () -> {
+              this.attempts.incrementAndGet();
+              return Integer.parseInt("x");
+            },
+            RetryPolicy.jitter(1, 5, TimeUnit.MILLISECONDS).retryOn(IOException.class));
+
+    assertInstanceOf(NumberFormatException.class, result.getCause());
+    assertEquals(1, this.attempts.get());
+  }
+
+  @Test
+  void testRetryStopsAtDeadline() {
+    final Try<Integer> result =
+        Try.retry(
+            () -> this.flaky(10),
+            RetryPolicy.fixed(30, TimeUnit.MILLISECONDS)
+                .maxAttempts(10)
+                .deadline(50, TimeUnit.MILLISECONDS));
+
+    assertTrue(result.isFailure());
+    assertEquals(2, this.attempts.get());
+  }
+
+  @Test
+  void testRetryAsync() {
+    final Try<Integer> result =
+        Try.retryAsync(
+                () -> this.flaky(3),
+                RetryPolicy.jitter(1, 10, TimeUnit.MILLISECONDS).maxAttempts(5),
+                this.executor)
+            .get();
+
+    assertEquals(4, result.get());
+
+    final Try<Integer> failed =
+        Try.retryAsync(
+                () -> this.flaky(10),
+                RetryPolicy.fixed(1, TimeUnit.MILLISECONDS).maxAttempts(2),
+                this.executor)
+            .get();
+
+    assertInstanceOf(IOException.class, failed.getCause());
+    assertEquals(6, this.attempts.get());
+  }
+
+  @Test
+  void testRetryAsyncKeepsLastFailureOnRejection() {
+    final AtomicInteger submissions = new AtomicInteger();
+    final Executor rejectingRetries =
+        task -> {
+          if (submissions.incrementAndGet() > 1) {
+            throw new RejectedExecutionException("shut down");
+          }
+          this.executor.execute(task);
+        };
+
+    final Try<Integer> failed =
+        Try.retryAsync(
+                () -> this.flaky(10),
+                RetryPolicy.fixed(1, TimeUnit.MILLISECONDS).maxAttempts(3),
+                rejectingRetries)
+            .get();
+
+    assertInstanceOf(IOException.class, failed.getCause());
+    assertEquals(1, failed.getCause().getSuppressed().length);
+    assertInstanceOf(RejectedExecutionException.class, failed.getCause().getSuppressed()[0]);
+    assertEquals(1, this.attempts.get());
+  }
+
+  @Test
+  void testInvalidPolicy() {
+    assertThrows(
+        IllegalArgumentException.class, () -> RetryPolicy.exponential(5, 1, TimeUnit.SECONDS));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RetryPolicy.fixed(1, TimeUnit.SECONDS).maxAttempts(0));
+    assertThrows(
+        NullPointerException.class,
+        () -> RetryPolicy.fixed(1, TimeUnit.SECONDS).retryOn(IOException.class, null));
+  }
+}
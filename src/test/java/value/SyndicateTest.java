@@ -28,14 +28,23 @@ import art.cutils.value.Syndicate;
 import art.cutils.value.Syndicate.Close;
 import art.cutils.value.Try;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -249,4 +258,408 @@ final class SyndicateTest {
     Assertions.assertNotEquals(close, s2.apply().onComplete(futures -> {}));
     Assertions.assertEquals(close, s1.apply().onComplete(futures -> {}));
   }
+
+  @Test
+  void testOnEachDeliversInCompletionOrder() {
+    final CountDownLatch slow = new CountDownLatch(1);
+    final List<Try<String>> outcomes = new ArrayList<>();
+
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      syndicate
+          .add(
+              () -> {
+                slow.await();
+                return "slow";
+              })
+          .add(() -> "fast")
+          .add(
+              () -> {
+                throw new IllegalStateException("failed");
+              })
+          .apply()
+          .onEach(
+              outcome -> {
+                outcomes.add(outcome);
+                if (outcomes.size() == 2) {
+                  slow.countDown();
+                }
+              });
+    }
+
+    Assertions.assertEquals(3, outcomes.size());
+    Assertions.assertEquals("slow", outcomes.get(2).get());
+    Assertions.assertTrue(
+        outcomes.subList(0, 2).stream()
+            .anyMatch(
+                outcome ->
+                    outcome.isFailure() && outcome.getCause() instanceof IllegalStateException));
+    Assertions.assertTrue(
+        outcomes.subList(0, 2).stream().anyMatch(outcome -> "fast".equals(outcome.get())));
+  }
+
+  @Test
+  void testStreamCancelsTasksPastTimeout() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final List<Try<Integer>> outcomes =
+          syndicate
+              .add(() -> 1)
+              .add(
+                  () -> {
+                    Pause.until(5).seconds().empty();
+                    return 2;
+                  })
+              .apply(500L, TimeUnit.MILLISECONDS)
+              .stream()
+              .collect(Collectors.toList());
+
+      Assertions.assertEquals(2, outcomes.size());
+      Assertions.assertEquals(1, outcomes.get(0).get());
+      Assertions.assertTrue(outcomes.get(1).getCause() instanceof CancellationException);
+    }
+  }
+
+  @Test
+  void testRaceReturnsFirstSuccessAndCancelsLosers() {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final Try<String> winner =
+          syndicate
+              .add(
+                  () -> {
+                    throw new IllegalStateException("failed");
+                  })
+              .add(
+                  () -> {
+                    started.countDown();
+                    try {
+                      Thread.sleep(10_000);
+                    } catch (final InterruptedException e) {
+                      interrupted.countDown();
+                    }
+                    return "slow";
+                  })
+              .add(
+                  () -> {
+                    started.await();
+                    return "fast";
+                  })
+              .apply()
+              .race();
+
+      Assertions.assertTrue(winner.isSuccess());
+      Assertions.assertEquals("fast", winner.get());
+      Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    } catch (final InterruptedException e) {
+      Assertions.fail(e);
+    }
+  }
+
+  @Test
+  void testRaceKOfN() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      syndicate.add(() -> 1).add(() -> 2).add(() -> 3);
+
+      final Try<List<Integer>> quorum = syndicate.apply().race(2);
+      Assertions.assertTrue(quorum.isSuccess());
+      Assertions.assertEquals(2, quorum.get().size());
+      Assertions.assertThrows(IllegalArgumentException.class, () -> syndicate.apply().race(4));
+      Assertions.assertThrows(IllegalArgumentException.class, () -> syndicate.apply().race(0));
+    }
+  }
+
+  @Test
+  void testRaceFailsWhenQuorumIsUnreachable() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final Try<List<Integer>> quorum =
+          syndicate
+              .add(() -> 1)
+              .add(
+                  () -> {
+                    throw new IllegalStateException("first");
+                  })
+              .add(
+                  () -> {
+                    Pause.until(5).seconds().empty();
+                    return 3;
+                  })
+              .apply(200L, TimeUnit.MILLISECONDS)
+              .race(2);
+
+      Assertions.assertTrue(quorum.isFailure());
+      Assertions.assertTrue(quorum.getCause() instanceof IllegalStateException);
+      Assertions.assertTrue(quorum.getCause().getSuppressed()[0] instanceof CancellationException);
+    }
+  }
+
+  @Test
+  void testInitVirtual() {
+    final boolean virtual =
+        Double.parseDouble(System.getProperty("java.specification.version")) >= 21;
+
+    if (virtual) {
+      try (final Syndicate<Boolean> syndicate = Syndicate.initVirtual()) {
+        final Try<Boolean> outcome = syndicate.add(() -> true).apply().race();
+        Assertions.assertTrue(outcome.get());
+      }
+    } else {
+      Assertions.assertThrows(UnsupportedOperationException.class, Syndicate::initVirtual);
+    }
+
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      Assertions.assertEquals(1, syndicate.add(() -> 1).apply().race().get());
+    }
+  }
+
+  @Test
+  void testMaxInFlight() {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+
+    try (final Syndicate<Integer> syndicate = Syndicate.init(Executors.newCachedThreadPool())) {
+      syndicate.maxInFlight(3);
+      for (int i = 0; i < 30; i++) {
+        final int value = i;
+        syndicate.add(
+            () -> {
+              peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Thread.sleep(5);
+              inFlight.decrementAndGet();
+              return value;
+            });
+      }
+
+      final Try<List<Future<Integer>>> futures = syndicate.apply().execute().get();
+      Assertions.assertTrue(futures.isSuccess());
+      Assertions.assertEquals(30, futures.get().size());
+      Assertions.assertTrue(futures.get().stream().allMatch(Future::isDone));
+      Assertions.assertTrue(peak.get() <= 3);
+
+      peak.set(0);
+      Assertions.assertEquals(30, syndicate.apply().stream().filter(Try::isSuccess).count());
+      Assertions.assertTrue(peak.get() <= 3);
+      Assertions.assertThrows(IllegalArgumentException.class, () -> syndicate.maxInFlight(0));
+    }
+  }
+
+  @Test
+  void testMaxInFlightWithTimeout() throws Exception {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final Try<List<Future<Integer>>> futures =
+          syndicate
+              .maxInFlight(1)
+              .add(() -> 1)
+              .add(
+                  () -> {
+                    Pause.until(5).seconds().empty();
+                    return 2;
+                  })
+              .add(() -> 3)
+              .apply(300L, TimeUnit.MILLISECONDS)
+              .execute()
+              .get();
+
+      Assertions.assertEquals(1, futures.get().get(0).get());
+      Assertions.assertTrue(futures.get().get(1).isCancelled());
+      Assertions.assertTrue(futures.get().get(2).isCancelled());
+    }
+  }
+
+  @Test
+  void testConcurrentAddAndReuse() throws Exception {
+    try (final Syndicate<Integer> syndicate = Syndicate.init(Executors.newFixedThreadPool(4))) {
+      final Thread[] producers = new Thread[4];
+      for (int p = 0; p < producers.length; p++) {
+        producers[p] =
+            new Thread(
+                () -> {
+                  for (int i = 0; i < 250; i++) {
+                    syndicate.add(() -> 1);
+                  }
+                });
+        producers[p].start();
+      }
+      for (final Thread producer : producers) {
+        producer.join();
+      }
+
+      final Try<List<Future<Integer>>> first = syndicate.apply().execute().get();
+      Assertions.assertEquals(1_000, first.get().size());
+
+      syndicate.reset().add(() -> 2);
+      final Try<List<Future<Integer>>> second = syndicate.apply().execute().get();
+      Assertions.assertEquals(1, second.get().size());
+      Assertions.assertEquals(2, second.get().get(0).get());
+
+      final Try<List<Future<Integer>>> batch =
+          syndicate.execute(Arrays.<Callable<Integer>>asList(() -> 3, () -> 4));
+      Assertions.assertEquals(3, batch.get().get(0).get());
+      Assertions.assertEquals(4, batch.get().get(1).get());
+    }
+  }
+
+  @Test
+  void testPerTaskTimeouts() {
+    try (final Syndicate<String> syndicate = Syndicate.init()) {
+      final List<Try<String>> outcomes =
+          syndicate
+              .add(() -> "fast", 1, TimeUnit.SECONDS)
+              .add(
+                  () -> {
+                    Thread.sleep(5_000);
+                    return "straggler";
+                  },
+                  100,
+                  TimeUnit.MILLISECONDS)
+              .add(
+                  () -> {
+                    throw new IllegalStateException("failed");
+                  })
+              .add(
+                  () -> {
+                    Thread.sleep(200);
+                    return "slow";
+                  })
+              .apply()
+              .results();
+
+      Assertions.assertEquals(4, outcomes.size());
+      Assertions.assertEquals("fast", outcomes.get(0).get());
+      Assertions.assertTrue(outcomes.get(1).getCause() instanceof TimeoutException);
+      Assertions.assertTrue(outcomes.get(2).getCause() instanceof IllegalStateException);
+      Assertions.assertEquals("slow", outcomes.get(3).get());
+      Assertions.assertFalse(Thread.currentThread().isInterrupted());
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> syndicate.add(() -> "", 0, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void testReduceAndCollect() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      for (int i = 1; i <= 100; i++) {
+        final int value = i;
+        syndicate.add(() -> value);
+      }
+
+      Assertions.assertEquals(5050, syndicate.apply().reduce(0, Integer::sum).get());
+      Assertions.assertEquals(100, syndicate.apply().collect(Collectors.toSet()).get().size());
+      Assertions.assertEquals(
+          Integer.valueOf(5050),
+          syndicate.apply().collect(Collectors.summingInt(Integer::intValue)).get());
+
+      final Try<Integer> failed =
+          syndicate
+              .add(
+                  () -> {
+                    throw new IllegalStateException("failed");
+                  })
+              .apply()
+              .reduce(0, Integer::sum);
+      Assertions.assertTrue(failed.isFailure());
+      Assertions.assertTrue(failed.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  void testShutdownOnFailure() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final Try<List<Integer>> failed =
+          syndicate
+              .add(
+                  () -> {
+                    started.countDown();
+                    try {
+                      Thread.sleep(10_000);
+                    } catch (final InterruptedException e) {
+                      interrupted.countDown();
+                    }
+                    return 1;
+                  })
+              .add(
+                  () -> {
+                    started.await();
+                    throw new IllegalStateException("failed");
+                  })
+              .apply()
+              .shutdownOnFailure();
+
+      Assertions.assertTrue(failed.getCause() instanceof IllegalStateException);
+      Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+      final Try<List<Integer>> values =
+          syndicate
+              .reset()
+              .add(
+                  () -> {
+                    Thread.sleep(100);
+                    return 1;
+                  })
+              .add(() -> 2)
+              .add(() -> 3)
+              .apply()
+              .shutdownOnFailure();
+      Assertions.assertEquals(Arrays.asList(1, 2, 3), values.get());
+    }
+  }
+
+  @Test
+  void testShutdownOnSuccess() {
+    try (final Syndicate<Integer> syndicate = Syndicate.init()) {
+      final Try<Integer> first =
+          syndicate
+              .add(
+                  () -> {
+                    Thread.sleep(10_000);
+                    return 1;
+                  })
+              .add(() -> 2)
+              .apply()
+              .shutdownOnSuccess();
+
+      Assertions.assertEquals(2, first.get());
+    }
+  }
+
+  @Test
+  void testKeyedOrdering() {
+    final Map<String, List<Integer>> applied = new ConcurrentHashMap<>();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+
+    try (final Syndicate<Integer> syndicate = Syndicate.init(Executors.newFixedThreadPool(8))) {
+      for (int i = 0; i < 50; i++) {
+        for (final String account : Arrays.asList("a", "b", "c", "d")) {
+          final int sequence = i;
+          syndicate.add(
+              account,
+              () -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                applied.computeIfAbsent(account, key -> new ArrayList<>()).add(sequence);
+                Thread.sleep(1);
+                inFlight.decrementAndGet();
+                return sequence;
+              });
+        }
+      }
+
+      final List<Try<Integer>> outcomes = syndicate.apply().results();
+      Assertions.assertTrue(outcomes.stream().allMatch(Try::isSuccess));
+      Assertions.assertTrue(peak.get() > 1);
+      Assertions.assertTrue(peak.get() <= 4);
+      for (final List<Integer> sequences : applied.values()) {
+        Assertions.assertEquals(
+            IntStream.range(0, 50).boxed().collect(Collectors.toList()), sequences);
+      }
+
+      applied.clear();
+      Assertions.assertEquals(200, syndicate.apply().stream().count());
+      Assertions.assertEquals(4, applied.size());
+      applied.values().forEach(sequences -> Assertions.assertEquals(50, sequences.size()));
+    }
+  }
 }
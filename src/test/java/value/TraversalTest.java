@@ -0,0 +1,145 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Traversal;
+import art.cutils.value.Try;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try traversal test.")
+final class TraversalTest {
+
+  private final List<String> numbers = Arrays.asList("1", "2", "x", "4", "y", "6");
+
+  @Test
+  void testTraverseCollectsAll() {
+    final Traversal<Integer> traversal = Try.traverse(this.numbers, Integer::parseInt);
+
+    assertEquals(6, traversal.size());
+    assertFalse(traversal.isSuccess());
+    assertTrue(traversal.isFailure());
+    assertEquals(Arrays.asList(1, 2, 4, 6), traversal.getSuccesses());
+    assertArrayEquals(new int[] {0, 1, 3, 5}, traversal.getSuccessIndices());
+    assertEquals(2, traversal.getFailures().size());
+    assertSame(traversal.getSuccesses(), traversal.getSuccesses());
+    assertSame(traversal.getFailures(), traversal.getFailures());
+    assertInstanceOf(NumberFormatException.class, traversal.getFailures().get(0));
+    assertArrayEquals(new int[] {2, 4}, traversal.getFailureIndices());
+    assertTrue(traversal.toTry().isFailure());
+  }
+
+  @Test
+  void testTraverseFailsFast() {
+    final Traversal<Integer> traversal =
+        Try.traverse(this.numbers, Integer::parseInt, Traversal.Mode.FAIL_FAST);
+
+    assertEquals(Arrays.asList(1, 2), traversal.getSuccesses());
+    assertArrayEquals(new int[] {2}, traversal.getFailureIndices());
+  }
+
+  @Test
+  void testTraverseSuccess() {
+    final Traversal<Integer> traversal =
+        Try.traverse(Arrays.asList("1", "2"), Integer::parseInt, Traversal.Mode.FAIL_FAST);
+
+    assertTrue(traversal.isSuccess());
+    assertEquals(Arrays.asList(1, 2), traversal.toTry().get());
+  }
+
+  @Test
+  void testTraverseParallelPreservesIndices() {
+    final List<String> values =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 10 == 0 ? "x" + i : String.valueOf(i))
+            .collect(Collectors.toList());
+
+    final Traversal<Integer> traversal =
+        Try.traverseParallel(values, Integer::parseInt, Traversal.Mode.COLLECT_ALL);
+
+    assertEquals(9_000, traversal.getSuccesses().size());
+    assertEquals(1_000, traversal.getFailures().size());
+    final int[] indices = traversal.getSuccessIndices();
+    final List<Integer> successes = traversal.getSuccesses();
+    for (int i = 0; i < indices.length; i++) {
+      assertEquals(indices[i], successes.get(i));
+    }
+    assertArrayEquals(
+        IntStream.range(0, 1_000).map(i -> i * 10).toArray(), traversal.getFailureIndices());
+  }
+
+  @Test
+  void testTraverseParallelOnExecutorFailsFast() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Traversal<Integer> traversal =
+          Try.traverseParallel(this.numbers, Integer::parseInt, Traversal.Mode.FAIL_FAST, executor);
+
+      assertTrue(traversal.isFailure());
+      assertTrue(traversal.getSuccesses().size() + traversal.getFailures().size() <= 6);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testTraverseKeepsNullResultsAndFailureOrder() {
+    final Traversal<String> traversal =
+        Try.traverse(
+            Arrays.asList("a", null, "", "b", ""),
+            value -> {
+              if (value != null && value.isEmpty()) {
+                throw new IllegalArgumentException("empty");
+              }
+              return value;
+            },
+            Traversal.Mode.COLLECT_ALL);
+
+    assertEquals(Arrays.asList("a", null, "b"), traversal.getSuccesses());
+    assertArrayEquals(new int[] {0, 1, 3}, traversal.getSuccessIndices());
+    assertArrayEquals(new int[] {2, 4}, traversal.getFailureIndices());
+    assertEquals(2, traversal.getFailures().size());
+    assertSame(traversal.getSuccesses(), traversal.getSuccesses());
+    assertSame(traversal.getFailures(), traversal.getFailures());
+
+    final Traversal<Integer> failed =
+        Try.traverse(this.numbers.subList(2, 6), Integer::parseInt, Traversal.Mode.FAIL_FAST);
+    assertTrue(failed.getSuccesses().isEmpty());
+    assertArrayEquals(new int[] {0}, failed.getFailureIndices());
+    assertInstanceOf(NumberFormatException.class, failed.toTry().getCause());
+  }
+}
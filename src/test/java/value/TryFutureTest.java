@@ -0,0 +1,150 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Pause;
+import art.cutils.value.Try;
+import art.cutils.value.TryFuture;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TryFuture Operation test.")
+final class TryFutureTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void testAsyncSuccessWithMapping() {
+    final Try<Integer> result =
+        Try.async(() -> Integer.parseInt("25"), this.executor)
+            .map(value -> value * 2)
+            .map(value -> value + 1)
+            .get();
+
+    assertTrue(result.isSuccess());
+    assertEquals(51, result.get());
+  }
+
+  @Test
+  void testAsyncFailureIsRecovered() {
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    final Try<Integer> result =
+        TryFuture.of(() -> Integer.parseInt("2F"), this.executor)
+            .map(value -> value * 2)
+            .onFailure(failure::set)
+            .recover(cause -> -1)
+            .get();
+
+    assertInstanceOf(NumberFormatException.class, failure.get());
+    assertEquals(-1, result.get());
+  }
+
+  @Test
+  void testFlatMapComposesAsyncSteps() {
+    final AtomicReference<Integer> seen = new AtomicReference<>();
+
+    final Try<String> result =
+        TryFuture.of(() -> 5, this.executor)
+            .flatMap(value -> TryFuture.of(() -> "#" + value, this.executor))
+            .onSuccess(value -> seen.set(value.length()))
+            .get();
+
+    assertEquals("#5", result.get());
+    assertEquals(2, seen.get());
+
+    final Try<String> failed =
+        TryFuture.of(() -> Integer.parseInt("x"), this.executor)
+            .flatMap(value -> TryFuture.of(() -> "#" + value, this.executor))
+            .get();
+
+    assertTrue(failed.isFailure());
+    assertInstanceOf(NumberFormatException.class, failed.getCause());
+  }
+
+  @Test
+  void testStagesDoNotBlockUntilTerminalGet() {
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final TryFuture<Integer> pending =
+        TryFuture.of(
+                () -> {
+                  latch.await();
+                  return 1;
+                },
+                this.executor)
+            .map(value -> value + 1);
+
+    assertFalse(pending.isDone());
+    latch.countDown();
+    assertEquals(2, pending.get().get());
+  }
+
+  @Test
+  void testWithinFailsOnTimeout() {
+    final Try<Integer> result =
+        TryFuture.of(
+                () -> {
+                  Pause.until(1).seconds().empty();
+                  return 1;
+                },
+                this.executor)
+            .within(10, TimeUnit.MILLISECONDS)
+            .get();
+
+    assertTrue(result.isFailure());
+    assertInstanceOf(TimeoutException.class, result.getCause());
+
+    assertEquals(
+        1, TryFuture.of(() -> 1, this.executor).within(1, TimeUnit.SECONDS).get().get());
+  }
+
+  @Test
+  void testFromCompletionStage() {
+    final CompletableFuture<Integer> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("failed"));
+
+    assertEquals(3, TryFuture.from(CompletableFuture.completedFuture(3)).get().get());
+    assertInstanceOf(IllegalStateException.class, TryFuture.from(failed).get().getCause());
+    assertEquals(7, TryFuture.completed(Try.of(() -> 7)).get(1, TimeUnit.SECONDS).get());
+  }
+}
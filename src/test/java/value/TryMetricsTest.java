@@ -0,0 +1,84 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Try;
+import art.cutils.value.TryMetrics;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Try metrics test.")
+final class TryMetricsTest {
+
+  @Test
+  void testOutcomesAreCountedPerCallSite() {
+    final TryMetrics.Site site = TryMetrics.site("metrics.parse");
+    site.reset();
+
+    assertSame(site, TryMetrics.site("metrics.parse"));
+
+    Try.of("metrics.parse", () -> Integer.parseInt("25"));
+    Try.of("metrics.parse", () -> Integer.parseInt("2F"));
+    Try.of("metrics.parse", () -> Integer.parseInt(null));
+    Try.of("metrics.parse", () -> Integer.valueOf("1").toString().charAt(4));
+    Try.of("metrics.parse", () -> {});
+    site.of(() -> null);
+    site.record(Try.of(() -> 7).filter(value -> value < 0));
+
+    final TryMetrics.Snapshot snapshot = site.snapshot();
+    assertEquals("metrics.parse", snapshot.getTag());
+    assertEquals(3, snapshot.getSuccesses());
+    assertEquals(1, snapshot.getEmpties());
+    assertEquals(3, snapshot.getFailures());
+    assertEquals(7, snapshot.getTotal());
+    assertEquals(2, snapshot.getFailures(NumberFormatException.class));
+    assertEquals(1, snapshot.getFailures(StringIndexOutOfBoundsException.class));
+    assertEquals(0, snapshot.getFailures(IllegalStateException.class));
+
+    assertEquals(snapshot.getTotal(), TryMetrics.snapshot().get("metrics.parse").getTotal());
+
+    site.reset();
+    assertEquals(0, site.snapshot().getTotal());
+  }
+
+  @Test
+  void testConcurrentRecording() {
+    final TryMetrics.Site site = TryMetrics.site("metrics.concurrent");
+    site.reset();
+
+    IntStream.range(0, 10_000)
+        .parallel()
+        .forEach(i -> site.of(() -> i % 4 == 0 ? Integer.parseInt("x") : i));
+
+    assertEquals(7_500, site.snapshot().getSuccesses());
+    assertEquals(2_500, site.snapshot().getFailures(NumberFormatException.class));
+    assertTrue(site.record(Try.failFast("invalid")).isFailure());
+    assertEquals(2_501, site.snapshot().getFailures());
+  }
+}
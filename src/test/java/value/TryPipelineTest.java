@@ -0,0 +1,97 @@
+/*
+ * _________  ____ ______________.___.____       _________
+ * \_   ___ \|    |   \__    ___/|   |    |     /   _____/
+ * /    \  \/|    |   / |    |   |   |    |     \_____  \
+ * \     \___|    |  /  |    |   |   |    |___  /        \
+ *  \______  /______/   |____|   |___|_______ \/_______  /
+ *         \/                                \/        \/
+ *
+ * Copyright (C) 2018 — 2023 Bobai Kato. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import art.cutils.value.Try;
+import art.cutils.value.TryPipeline;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TryPipeline Operation test.")
+final class TryPipelineTest {
+
+  private final AtomicInteger peeked = new AtomicInteger();
+
+  private final TryPipeline<String, Integer> pipeline =
+      TryPipeline.<String>init()
+          .map(String::trim)
+          .map(Integer::parseInt)
+          .filter(value -> value > 0)
+          .peek(this.peeked::set)
+          .map(value -> value * 2);
+
+  @Test
+  void testPipelineWithResult() {
+    final Try<Integer> result = this.pipeline.apply(" 21 ");
+
+    assertTrue(result.isSuccess());
+    assertTrue(result.isResult());
+    assertEquals(42, result.get());
+    assertEquals(21, this.peeked.get());
+    assertEquals(5, this.pipeline.size());
+
+    assertEquals(
+        Try.of(() -> " 21 ").map(String::trim).map(Integer::parseInt).map(v -> v * 2),
+        this.pipeline.apply(" 21 "));
+  }
+
+  @Test
+  void testPipelineWithFailedStage() {
+    final Try<Integer> result = this.pipeline.apply("2F");
+
+    assertTrue(result.isFailure());
+    assertInstanceOf(NumberFormatException.class, result.getCause());
+    assertEquals(0, this.peeked.get());
+  }
+
+  @Test
+  void testPipelineWithUnmetFilter() {
+    final Try<Integer> result = this.pipeline.apply("-21");
+
+    assertTrue(result.isSuccess());
+    assertTrue(result.isEmpty());
+    assertEquals(Try.of(() -> -21).filter(value -> value > 0), result);
+  }
+
+  @Test
+  void testPipelineAppliedToTry() {
+    final Try<String> failed = Try.failFast("missing");
+
+    assertEquals(42, this.pipeline.applyTo(Try.of(() -> "21")).get());
+    assertSame(failed.getCause(), this.pipeline.applyTo(failed).getCause());
+    assertTrue(this.pipeline.applyTo(Try.of(() -> "21").filter(String::isEmpty)).isEmpty());
+  }
+
+  @Test
+  void testIdentityPipeline() {
+    assertSame(TryPipeline.init(), TryPipeline.init());
+    assertEquals(21, TryPipeline.<Integer>init().apply(21).get());
+  }
+}
@@ -30,9 +30,12 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import art.cutils.function.Dealer;
+import art.cutils.value.RecoveryTable;
 import art.cutils.value.Try;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -69,9 +72,11 @@ final class TryTest {
 
     assertNull(convertStringToInteger.getCause());
 
-    assertEquals(convertStringToInteger.filter(Objects::isNull), convertStringToInteger);
+    assertNotEquals(convertStringToInteger.filter(Objects::isNull), convertStringToInteger);
 
-    assertFalse(convertStringToInteger.isResult());
+    assertFalse(convertStringToInteger.filter(Objects::isNull).isResult());
+
+    assertTrue(convertStringToInteger.isResult());
   }
 
   @Test
@@ -293,14 +298,34 @@ final class TryTest {
 
     final Try<Integer> t2 = t1.filter(result -> result < 0); // condition is not met
 
-    assertEquals(t1, t2);
+    assertNotEquals(t1, t2);
     assertFalse(t2.isNotEmpty());
     assertTrue(t2.isEmpty());
     assertFalse(t2.isResult());
     assertTrue(t2.isSuccess());
 
-    t2.map(result -> result + 1);
-    assertTrue(t2.get() == null);
+    assertTrue(t1.isNotEmpty());
+    assertEquals(25, t1.get());
+
+    assertTrue(t2.map(result -> result + 1).isEmpty());
+    assertNull(t2.get());
+  }
+
+  @Test
+  void test_try_shares_stateless_instances() {
+    assertSame(Try.of(() -> {}), Try.of(() -> {}));
+
+    final Try<Integer> empty = Try.of(() -> 25).filter(result -> result < 0);
+    assertSame(empty, Try.of(() -> "25").filter(String::isEmpty));
+    assertSame(empty, empty.map(result -> result + 1));
+
+    final Try<Integer> success = Try.of(() -> 25);
+    assertSame(success, success.filter(result -> result > 0));
+    assertSame(success, success.peek(result -> {}));
+
+    final Try<Integer> failure = Try.of(() -> Integer.parseInt("2F"));
+    assertSame(failure, failure.map(result -> result + 1));
+    assertSame(failure, failure.filter(result -> result > 0));
   }
 
   @Test
@@ -382,4 +407,140 @@ final class TryTest {
         .onEmpty(() -> 42)
         .onSuccess(result -> assertEquals(100, result));
   }
+
+  @Test
+  void failFast_withReasonCode_failsWithoutStackTrace() {
+    final Try<Integer> failed = Try.failFast("blank");
+
+    assertTrue(failed.isFailure());
+    assertInstanceOf(Try.Reason.class, failed.getCause());
+    assertEquals("blank", ((Try.Reason) failed.getCause()).getCode());
+    assertEquals("blank", failed.getCause().getMessage());
+    assertEquals(0, failed.getCause().getStackTrace().length);
+    assertEquals(25, failed.orElseGet(25));
+    assertEquals(25, failed.map(result -> result + 1).orElseGet(() -> 25));
+
+    final AtomicInteger failures = new AtomicInteger();
+    failed.onFailure(cause -> failures.incrementAndGet()).onFailure(failures::incrementAndGet);
+    assertEquals(2, failures.get());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> failed.orElseThrow(IllegalArgumentException::new));
+  }
+
+  @Test
+  void failFast_withPreallocatedReason_sharesFailure() {
+    final Try.Reason reason = Try.Reason.of("range", "value out of range");
+
+    final Try<Integer> failed = Try.failFast(reason);
+
+    assertSame(failed, Try.<String>failFast(reason));
+    assertSame(reason, failed.getCause());
+    assertEquals("range", reason.getCode());
+    assertEquals("value out of range", reason.getMessage());
+
+    reason.addSuppressed(new IllegalStateException());
+    assertEquals(0, reason.getSuppressed().length);
+
+    assertSame(
+        reason,
+        Try.of(
+                () -> {
+                  throw reason;
+                })
+            .getCause());
+  }
+
+  @Test
+  void lazy_runsOperationOnceOnFirstTerminalCall() {
+    final AtomicInteger runs = new AtomicInteger();
+    final AtomicInteger peeks = new AtomicInteger();
+
+    final Try<Integer> lazy =
+        Try.lazy(
+                () -> {
+                  runs.incrementAndGet();
+                  return Integer.parseInt("25");
+                })
+            .map(result -> result * 2)
+            .peek(result -> peeks.incrementAndGet())
+            .filter(result -> result > 0);
+
+    assertEquals(0, runs.get());
+    assertEquals(0, peeks.get());
+
+    assertTrue(lazy.isSuccess());
+    assertEquals(50, lazy.get());
+    assertEquals(50, lazy.orElseGet(0));
+    assertEquals(1, runs.get());
+    assertEquals(1, peeks.get());
+  }
+
+  @Test
+  void lazy_neverConsumedNeverRuns() {
+    final AtomicInteger runs = new AtomicInteger();
+
+    Try.lazy(runs::incrementAndGet).map(result -> result + 1).filter(result -> result > 0);
+
+    assertEquals(0, runs.get());
+  }
+
+  @Test
+  void lazy_recoverIsDeferred() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Dealer<Integer> parse =
+        () -> {
+          runs.incrementAndGet();
+          return Integer.parseInt("2F");
+        };
+
+    final Try<Integer> recovered =
+        Try.lazy(parse).recover(NumberFormatException.class, cause -> -1);
+    final Try<Integer> tabled =
+        Try.lazy(parse)
+            .recover(RecoveryTable.<Integer>init().on(NumberFormatException.class, cause -> -2));
+
+    assertEquals(0, runs.get());
+    assertEquals(-1, recovered.get());
+    assertEquals(-2, tabled.get());
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  void lazy_failureIsKept() {
+    final AtomicInteger runs = new AtomicInteger();
+    final AtomicInteger failures = new AtomicInteger();
+
+    final Try<Integer> lazy =
+        Try.lazy(
+            () -> {
+              runs.incrementAndGet();
+              return Integer.parseInt("2F");
+            });
+
+    lazy.onFailure(cause -> failures.incrementAndGet()).onFailure(failures::incrementAndGet);
+
+    assertEquals(2, failures.get());
+    assertEquals(1, runs.get());
+    assertEquals(7, lazy.orElseGet(() -> 7));
+    assertInstanceOf(NumberFormatException.class, lazy.getCause());
+  }
+
+  @Test
+  void lazy_runsOnceAcrossThreads() throws InterruptedException {
+    final AtomicInteger runs = new AtomicInteger();
+    final Try<Integer> lazy = Try.lazy(runs::incrementAndGet);
+
+    final Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(lazy::get);
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(1, runs.get());
+    assertEquals(1, lazy.get());
+  }
 }